@@ -2,12 +2,16 @@ package com.problemio.admin.controller;
 
 import com.problemio.admin.service.AdminService;
 import com.problemio.challenge.dto.ChallengeCreateRequest;
+import com.problemio.global.auth.BoundedPasswordEncoder;
 import com.problemio.global.auth.CustomUserDetails;
+import com.problemio.global.cache.CacheMetrics;
+import com.problemio.global.dto.CacheStatsResponse;
+import com.problemio.global.dto.PasswordHashingStatsResponse;
 import com.problemio.quiz.domain.Quiz;
 import com.problemio.quiz.dto.QuizResponse;
 import com.problemio.global.dto.PageResponse;
 import com.problemio.user.dto.UserResponse;
-import com.problemio.user.mapper.UserMapper;
+import com.problemio.user.loader.UserLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +20,8 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import java.nio.file.Files;
@@ -28,7 +34,9 @@ import java.nio.file.Paths;
 public class AdminController {
 
     private final AdminService adminService;
-    private final UserMapper userMapper; // 응답용 작성자 정보 fetch
+    private final UserLoader userLoader; // 응답용 작성자 정보 (페이지 단위 일괄 조회)
+    private final CacheMetrics cacheMetrics;
+    private final BoundedPasswordEncoder passwordEncoder;
 
     // 관리자 권한 확인 (SecurityConfig 또는 @PreAuthorize 처리 필요)
     
@@ -45,9 +53,11 @@ public class AdminController {
         // Convert to QuizResponse
         // Admin 뷰를 위한 기본 정보 및 숨김 상태 조회 (효율성을 위해 좋아요/팔로우 체크 제외)
         
+        Map<Long, UserResponse> authors = userLoader.loadAll(quizzes.stream().map(Quiz::getUserId).toList());
+
         List<QuizResponse> content = quizzes.stream().map(quiz -> {
             // 작성자 정보 매핑
-             UserResponse author = userMapper.findById(quiz.getUserId())
+             UserResponse author = Optional.ofNullable(authors.get(quiz.getUserId()))
                      .map(u -> UserResponse.builder()
                              .id(u.getId())
                              .nickname(u.getNickname())
@@ -91,6 +101,18 @@ public class AdminController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    // 캐시별 적중률/축출/적재 시간 (cache.specs 튜닝용)
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(cacheMetrics.snapshot());
+    }
+
+    // 비밀번호 해싱 풀 처리량/대기/거절 (password.hashing 튜닝용)
+    @GetMapping("/password-hashing")
+    public ResponseEntity<List<PasswordHashingStatsResponse>> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordEncoder.snapshot());
+    }
+
     // --- 커스텀 아이템 관리 ---
 
     @Autowired
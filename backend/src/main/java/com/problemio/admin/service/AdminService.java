@@ -1,5 +1,6 @@
 package com.problemio.admin.service;
 
+import com.problemio.challenge.catalog.ChallengeCatalog;
 import com.problemio.challenge.domain.Challenge;
 import com.problemio.challenge.dto.ChallengeCreateRequest;
 import com.problemio.challenge.mapper.ChallengeMapper;
@@ -21,6 +22,7 @@ public class AdminService {
 
     private final QuizMapper quizMapper;
     private final ChallengeMapper challengeMapper;
+    private final ChallengeCatalog challengeCatalog;
 
     @Transactional(readOnly = true)
     public List<Quiz> findAdminQuizzes(int page, int size, String keyword) {
@@ -57,5 +59,6 @@ public class AdminService {
         challenge.setCreatedAt(now);
         challenge.setUpdatedAt(now);
         challengeMapper.insert(challenge);
+        challengeCatalog.evict();
     }
 }
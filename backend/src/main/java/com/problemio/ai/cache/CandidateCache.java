@@ -2,17 +2,27 @@ package com.problemio.ai.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.problemio.global.cache.CacheSpecProperties;
+import com.problemio.global.cache.CacheSpecProperties.Spec;
+import com.problemio.global.cache.InstrumentedCache;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 @Component
-public class CandidateCache {
+public class CandidateCache implements InstrumentedCache {
 
-    private final Cache<String, byte[]> cache = Caffeine.newBuilder()
-            .expireAfterWrite(10, TimeUnit.MINUTES)
-            .maximumSize(200)
-            .build();
+    private final Cache<String, byte[]> cache;
+
+    public CandidateCache(CacheSpecProperties properties) {
+        Spec spec = properties.resolve(getCacheName(), Spec.afterWrite(200, Duration.ofMinutes(10)));
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .maximumSize(spec.getMaximumSize())
+                .recordStats()
+                .build();
+    }
 
     public void put(String candidateId, byte[] bytes) {
         cache.put(candidateId, bytes);
@@ -25,4 +35,19 @@ public class CandidateCache {
     public void evict(String candidateId) {
         cache.invalidate(candidateId);
     }
+
+    @Override
+    public String getCacheName() {
+        return "aiCandidate";
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
 }
@@ -0,0 +1,81 @@
+package com.problemio.challenge.catalog;
+
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 챌린지 목록 조회 창구 ("challenges" 캐시)
+ * - 전체 챌린지 + 대상 퀴즈 요약을 조인 쿼리 한 번으로 적재해 목록/상세/랭킹 요청에서 메모리로 조회
+ * - 챌린지 생성, 랭킹 확정(finalized_at 변경) 시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class ChallengeCatalog {
+
+    private static final String CACHE_NAME = "challenges";
+    private static final String KEY = "all";
+
+    private final CacheManager cacheManager;
+    private final ChallengeMapper challengeMapper;
+
+    /**
+     * 전체 챌린지 (최신 생성 순)
+     */
+    public List<Challenge> findAll() {
+        return snapshot().challenges();
+    }
+
+    public Optional<Challenge> find(Long challengeId) {
+        return Optional.ofNullable(snapshot().byId().get(challengeId));
+    }
+
+    public Challenge get(Long challengeId) {
+        return find(challengeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+    }
+
+    /**
+     * 챌린지 변경 반영: 즉시 + 커밋 후 제거 (커밋 전 다른 요청이 다시 적재한 값 정리)
+     */
+    public void evict() {
+        evictNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow();
+                }
+            });
+        }
+    }
+
+    private ChallengeSnapshot snapshot() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return load();
+        }
+        return cache.get(KEY, this::load);
+    }
+
+    private ChallengeSnapshot load() {
+        return ChallengeSnapshot.of(challengeMapper.findAllWithTargetQuiz());
+    }
+
+    private void evictNow() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(KEY);
+        }
+    }
+}
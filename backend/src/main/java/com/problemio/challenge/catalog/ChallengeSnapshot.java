@@ -0,0 +1,19 @@
+package com.problemio.challenge.catalog;
+
+import com.problemio.challenge.domain.Challenge;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 적재 시점의 챌린지 목록 (순서 유지 + id 조회)
+ */
+record ChallengeSnapshot(List<Challenge> challenges, Map<Long, Challenge> byId) {
+
+    static ChallengeSnapshot of(List<Challenge> challenges) {
+        Map<Long, Challenge> byId = new HashMap<>();
+        challenges.forEach(challenge -> byId.put(challenge.getId(), challenge));
+        return new ChallengeSnapshot(List.copyOf(challenges), Map.copyOf(byId));
+    }
+}
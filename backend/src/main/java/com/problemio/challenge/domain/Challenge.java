@@ -17,6 +17,11 @@ public class Challenge {
     private Integer timeLimit;
     private LocalDateTime startAt;
     private LocalDateTime endAt;
+    private LocalDateTime finalizedAt; // 랭킹 확정 시각 (미확정이면 null)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // 대상 퀴즈 요약 (findAllWithTargetQuiz 로 조회한 경우만, 퀴즈가 없거나 작성자 탈퇴 시 null)
+    private String targetQuizTitle;
+    private String targetQuizThumbnailUrl;
 }
@@ -0,0 +1,16 @@
+package com.problemio.challenge.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * "leaderboard" 캐시 값 (확정 여부에 따라 캐시 유지 시간이 달라짐)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LeaderboardSnapshot {
+    private final List<ChallengeRankingResponse> topRankings;
+    private final boolean finalized;
+}
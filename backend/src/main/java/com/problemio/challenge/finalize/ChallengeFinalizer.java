@@ -0,0 +1,220 @@
+package com.problemio.challenge.finalize;
+
+import com.problemio.challenge.catalog.ChallengeCatalog;
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.domain.ChallengeRanking;
+import com.problemio.challenge.live.LeaderboardChangedEvent;
+import com.problemio.challenge.live.LiveEntry;
+import com.problemio.challenge.live.LiveLeaderboard;
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.submission.domain.Submission;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 종료된 챌린지의 랭킹 확정 (challenge_rankings 기록)
+ * - 주기적으로 곧 끝날 챌린지를 찾아 종료 시각에 실행되도록 예약
+ * - 제출 기록은 스트리밍으로 한 번만 읽으며 사용자별 최고 기록만 메모리에 유지
+ * - 같은 챌린지의 확정 요청은 진행 중인 작업 하나로 합침 (호출자는 기다리지 않고 라이브 랭킹 사용)
+ * - 확정은 전용 스레드풀에서 실행 (공용 스케줄러 스레드는 예약만 담당해 다른 @Scheduled 작업을 막지 않음)
+ * - 인스턴스 간에는 MySQL GET_LOCK, 최종적으로 challenges.finalized_at 선점으로 중복 확정 방지
+ */
+@Slf4j
+@Component
+public class ChallengeFinalizer {
+
+    private final ChallengeMapper challengeMapper;
+    private final ChallengeRankingMapper challengeRankingMapper;
+    private final ChallengeCatalog challengeCatalog;
+    private final LiveLeaderboard liveLeaderboard;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor finalizeExecutor;
+
+    private static final String LOCK_PREFIX = "challenge-finalize:";
+
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<Long, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${challenge.finalize.check-interval-ms:60000}")
+    private long checkIntervalMs;
+
+    @Value("${challenge.finalize.chunk-size:500}")
+    private int chunkSize;
+
+    public ChallengeFinalizer(ChallengeMapper challengeMapper,
+                              ChallengeRankingMapper challengeRankingMapper,
+                              ChallengeCatalog challengeCatalog,
+                              LiveLeaderboard liveLeaderboard,
+                              TaskScheduler taskScheduler,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${challenge.finalize.threads:1}") int threads,
+                              @Value("${challenge.finalize.queue-capacity:100}") int queueCapacity) {
+        this.challengeMapper = challengeMapper;
+        this.challengeRankingMapper = challengeRankingMapper;
+        this.challengeCatalog = challengeCatalog;
+        this.liveLeaderboard = liveLeaderboard;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        AtomicInteger sequence = new AtomicInteger();
+        this.finalizeExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "challenge-finalize-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        finalizeExecutor.shutdown();
+    }
+
+    /**
+     * 다음 확인 주기 안에 끝나는 미확정 챌린지를 종료 시각에 예약 (이미 끝났으면 즉시)
+     */
+    @Scheduled(fixedDelayString = "${challenge.finalize.check-interval-ms:60000}")
+    public void scheduleEnding() {
+        LocalDateTime until = TimeUtils.now().plusNanos(checkIntervalMs * 1_000_000L);
+        for (Challenge challenge : challengeMapper.findPendingFinalization(until)) {
+            Long challengeId = challenge.getId();
+            if (!scheduled.add(challengeId)) {
+                continue;
+            }
+            taskScheduler.schedule(() -> request(challengeId).whenComplete((finalized, e) -> {
+                if (e != null) {
+                    log.error("챌린지 랭킹 확정 실패 (다음 주기에 재시도): challengeId={}", challengeId, e);
+                }
+                scheduled.remove(challengeId);
+            }), challenge.getEndAt().atZone(TimeUtils.ZONE_KST).toInstant());
+        }
+    }
+
+    /**
+     * 확정 요청 (이미 진행 중이면 같은 작업의 결과를 공유, 호출 스레드는 대기하지 않음)
+     */
+    public CompletableFuture<Boolean> request(Long challengeId) {
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = inFlight.putIfAbsent(challengeId, created);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            finalizeExecutor.execute(() -> {
+                try {
+                    boolean finalized = finalizeChallenge(challengeId);
+                    inFlight.remove(challengeId, created);
+                    created.complete(finalized);
+                } catch (RuntimeException e) {
+                    inFlight.remove(challengeId, created);
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 이번 요청은 포기 (예약 작업은 다음 확인 주기에 다시 요청)
+            log.warn("챌린지 랭킹 확정 대기열 초과: challengeId={}", challengeId);
+            inFlight.remove(challengeId, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * 랭킹 확정 (이미 다른 곳에서 확정했으면 false)
+     */
+    public boolean finalizeChallenge(Long challengeId) {
+        String lockName = LOCK_PREFIX + challengeId;
+        Integer written = transactionTemplate.execute(status -> {
+            // 다른 인스턴스가 확정 중이면 기다리지 않고 양보
+            if (!Integer.valueOf(1).equals(challengeMapper.getLock(lockName, 0))) {
+                return null;
+            }
+            try {
+                // 선점: 이미 확정된 챌린지면 0 건
+                if (challengeMapper.markFinalized(challengeId, TimeUtils.now()) == 0) {
+                    return null;
+                }
+                List<ChallengeRanking> rankings = buildRankings(challengeId);
+                challengeRankingMapper.deleteRankingsByChallengeId(challengeId);
+                for (int from = 0; from < rankings.size(); from += chunkSize) {
+                    challengeRankingMapper.insertRankings(rankings.subList(from, Math.min(from + chunkSize, rankings.size())));
+                }
+                return rankings.size();
+            } finally {
+                challengeMapper.releaseLock(lockName);
+            }
+        });
+
+        if (written == null) {
+            return false;
+        }
+        // finalized_at 반영 후 라이브 보드 제거 (순서가 바뀌면 확정 전 목록으로 빈 라이브 랭킹을 캐시할 수 있음)
+        challengeCatalog.evict();
+        liveLeaderboard.evict(challengeId);
+        eventPublisher.publishEvent(new LeaderboardChangedEvent(challengeId, 1));
+        log.info("챌린지 랭킹 확정: challengeId={}, rankings={}", challengeId, written);
+        return true;
+    }
+
+    private List<ChallengeRanking> buildRankings(Long challengeId) {
+        // 사용자별 최고 기록 (정답 수 내림차순, 소요시간 오름차순, 시작 시각 오름차순)
+        Map<Long, LiveEntry> bestByUser = new HashMap<>();
+        challengeRankingMapper.scanMemberSubmissionsByChallengeId(challengeId, context -> {
+            Submission s = context.getResultObject();
+            LiveEntry entry = new LiveEntry(s.getUserId(), s.getId(), s.getCorrectCount(),
+                    s.getPlayTime() != null ? s.getPlayTime() : 0.0, s.getSubmittedAt());
+            bestByUser.merge(s.getUserId(), entry,
+                    (current, candidate) -> LiveEntry.BY_RECORD.compare(candidate, current) < 0 ? candidate : current);
+        });
+
+        List<LiveEntry> bests = new ArrayList<>(bestByUser.values());
+        bests.sort(LiveEntry.BY_RECORD);
+
+        LocalDateTime now = TimeUtils.now();
+        List<ChallengeRanking> rankings = new ArrayList<>(bests.size());
+        for (int i = 0; i < bests.size(); i++) {
+            LiveEntry best = bests.get(i);
+
+            ChallengeRanking ranking = new ChallengeRanking();
+            ranking.setChallengeId(challengeId);
+            ranking.setUserId(best.userId());
+            ranking.setRanking(i + 1);
+            ranking.setScore((double) best.correctCount());
+            ranking.setPlayTime(best.playTime());
+            ranking.setCreatedAt(now);
+            rankings.add(ranking);
+        }
+        return rankings;
+    }
+}
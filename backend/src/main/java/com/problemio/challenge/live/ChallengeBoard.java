@@ -0,0 +1,68 @@
+package com.problemio.challenge.live;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챌린지 하나의 라이브 랭킹
+ * - 사용자별 제출 기록을 보관하고 그중 최고 기록 하나만 트리에 올림
+ * - 같은 제출의 갱신은 소요시간이 늘어나는 방향으로만 반영 (늦게 도착한 이전 갱신 무시)
+ */
+class ChallengeBoard {
+
+    private final RankTree<LiveEntry> tree = new RankTree<>(LiveEntry.ORDER);
+    private final Map<Long, Map<Long, LiveEntry>> submissionsByUser = new HashMap<>();
+    private final Map<Long, LiveEntry> bestByUser = new HashMap<>();
+
+    /**
+     * 기록 반영 후 순위가 바뀌기 시작하는 위치 반환 (변화 없으면 Integer.MAX_VALUE)
+     */
+    synchronized int record(LiveEntry entry) {
+        Map<Long, LiveEntry> submissions = submissionsByUser.computeIfAbsent(entry.userId(), k -> new HashMap<>());
+        LiveEntry previous = submissions.get(entry.submissionId());
+        if (previous != null && entry.playTime() < previous.playTime()) {
+            return Integer.MAX_VALUE;
+        }
+        submissions.put(entry.submissionId(), entry);
+
+        LiveEntry best = null;
+        for (LiveEntry candidate : submissions.values()) {
+            if (best == null || LiveEntry.BY_RECORD.compare(candidate, best) < 0) {
+                best = candidate;
+            }
+        }
+
+        LiveEntry currentBest = bestByUser.get(entry.userId());
+        if (currentBest == best) {
+            return Integer.MAX_VALUE;
+        }
+        int fromRank = Integer.MAX_VALUE;
+        if (currentBest != null) {
+            fromRank = tree.countBefore(currentBest) + 1;
+            tree.remove(currentBest);
+        }
+        tree.insert(best);
+        bestByUser.put(entry.userId(), best);
+        return Math.min(fromRank, tree.countBefore(best) + 1);
+    }
+
+    synchronized LiveEntry best(Long userId) {
+        return bestByUser.get(userId);
+    }
+
+    /**
+     * 1부터 시작하는 순위 (더 좋은 기록을 가진 사용자 수 + 1)
+     */
+    synchronized int rankOf(LiveEntry entry) {
+        return tree.countBefore(entry.probe()) + 1;
+    }
+
+    synchronized List<LiveEntry> range(int offset, int limit) {
+        return tree.range(offset, limit);
+    }
+
+    synchronized int size() {
+        return tree.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.problemio.challenge.live;
+
+import com.problemio.challenge.dto.LeaderboardSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 챌린지 상위 랭킹 캐시 ("leaderboard")
+ * - 진행 중엔 짧은 TTL, 확정 후엔 긴 TTL (CacheConfig 의 Expiry)
+ * - 상위권 순위가 바뀌면 LeaderboardChangedEvent 로 즉시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardCache {
+
+    public static final int TOP_SIZE = 10;
+
+    private static final String CACHE_NAME = "leaderboard";
+
+    private final CacheManager cacheManager;
+
+    public LeaderboardSnapshot get(Long challengeId, Supplier<LeaderboardSnapshot> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            LeaderboardSnapshot cached = cache.get(challengeId, LeaderboardSnapshot.class);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        LeaderboardSnapshot snapshot = loader.get();
+        if (cache != null) {
+            cache.put(challengeId, snapshot);
+        }
+        return snapshot;
+    }
+
+    @EventListener
+    public void onLeaderboardChanged(LeaderboardChangedEvent event) {
+        if (event.fromRank() > TOP_SIZE) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(event.challengeId());
+        }
+    }
+}
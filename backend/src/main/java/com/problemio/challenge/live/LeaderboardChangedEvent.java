@@ -0,0 +1,7 @@
+package com.problemio.challenge.live;
+
+/**
+ * 챌린지 랭킹 변경 알림 (fromRank 이하 순위가 바뀌었을 수 있음)
+ */
+public record LeaderboardChangedEvent(Long challengeId, int fromRank) {
+}
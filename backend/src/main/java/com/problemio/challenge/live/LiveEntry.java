@@ -0,0 +1,34 @@
+package com.problemio.challenge.live;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 라이브 랭킹의 한 기록 (정답 수 내림차순, 소요시간 오름차순, 시작 시각 오름차순)
+ */
+public record LiveEntry(Long userId, Long submissionId, int correctCount, double playTime, LocalDateTime submittedAt) {
+
+    /**
+     * 기록 순서 비교 (같은 기록이면 0)
+     */
+    public static final Comparator<LiveEntry> BY_RECORD = Comparator
+            .comparingInt(LiveEntry::correctCount).reversed()
+            .thenComparingDouble(LiveEntry::playTime)
+            .thenComparing(LiveEntry::submittedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * 트리 정렬 순서 (같은 기록은 사용자 ID 순)
+     */
+    static final Comparator<LiveEntry> ORDER = BY_RECORD.thenComparing(LiveEntry::userId);
+
+    /**
+     * 같은 기록 중 가장 앞에 오는 탐색용 키 (이 키보다 앞선 원소 = 더 좋은 기록)
+     */
+    LiveEntry probe() {
+        return new LiveEntry(Long.MIN_VALUE, submissionId, correctCount, playTime, submittedAt);
+    }
+
+    public boolean sameRecord(LiveEntry other) {
+        return BY_RECORD.compare(this, other) == 0;
+    }
+}
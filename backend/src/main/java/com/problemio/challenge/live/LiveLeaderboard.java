@@ -0,0 +1,172 @@
+package com.problemio.challenge.live;
+
+import com.problemio.challenge.catalog.ChallengeCatalog;
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.submission.domain.Submission;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 챌린지의 메모리 라이브 랭킹
+ * - 챌린지별 순서 통계 트리로 상위 N / 내 순위를 O(log n) 조회
+ * - 답안 제출 커밋 후 갱신, 기동 시(또는 첫 조회 시) submissions 에서 재구성
+ * - 순위가 바뀌면 LeaderboardChangedEvent 발행 (상위 랭킹 캐시 무효화용)
+ * - 확정 전인 챌린지만 보드를 유지 (없는/확정된 챌린지는 만들지 않고, 확정되면 조회 또는 주기 정리 때 제거)
+ *   확정 여부는 ChallengeCatalog 기준이라 다른 인스턴스의 확정도 카탈로그 무효화/만료 후 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveLeaderboard {
+
+    private final ChallengeRankingMapper challengeRankingMapper;
+    private final ChallengeCatalog challengeCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, ChallengeBoard> boards = new ConcurrentHashMap<>();
+
+    // 동시에 메모리에 둘 최대 보드 수 (초과 시 보관하지 않고 조회마다 재구성)
+    @Value("${challenge.live.max-boards:100}")
+    private int maxBoards;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (Challenge challenge : challengeCatalog.findAll()) {
+            // 확정 전 챌린지 (진행 중 + 종료 후 확정 대기)
+            if (challenge.getFinalizedAt() == null) {
+                try {
+                    board(challenge.getId());
+                } catch (RuntimeException e) {
+                    log.warn("라이브 랭킹 재구성 실패 (첫 조회 시 재시도): challengeId={}", challenge.getId(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 제출 기록 갱신 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void record(Long challengeId, Long userId, Long submissionId, int correctCount, Double playTime,
+                       LocalDateTime submittedAt) {
+        if (challengeId == null || userId == null) {
+            return;
+        }
+        LiveEntry entry = new LiveEntry(userId, submissionId, correctCount, playTime != null ? playTime : 0.0, submittedAt);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(challengeId, entry);
+                }
+            });
+        } else {
+            apply(challengeId, entry);
+        }
+    }
+
+    /**
+     * 내 최고 기록 (확정됐거나 없는 챌린지면 null)
+     */
+    public LiveEntry best(Long challengeId, Long userId) {
+        ChallengeBoard board = userId == null ? null : board(challengeId);
+        return board == null ? null : board.best(userId);
+    }
+
+    /**
+     * 기록의 순위 (확정됐거나 없는 챌린지면 0)
+     */
+    public int rankOf(Long challengeId, LiveEntry entry) {
+        ChallengeBoard board = board(challengeId);
+        return board == null ? 0 : board.rankOf(entry);
+    }
+
+    /**
+     * 순위순 기록 구간 조회 (offset 은 0부터, 확정됐거나 없는 챌린지면 빈 목록)
+     */
+    public List<LiveEntry> range(Long challengeId, int offset, int limit) {
+        ChallengeBoard board = board(challengeId);
+        return board == null ? List.of() : board.range(offset, limit);
+    }
+
+    /**
+     * 확정된 챌린지의 메모리 해제
+     */
+    public void evict(Long challengeId) {
+        boards.remove(challengeId);
+    }
+
+    /**
+     * 다른 인스턴스에서 확정된 챌린지의 보드 정리 (조회가 없어도 메모리 해제)
+     */
+    @Scheduled(fixedDelayString = "${challenge.live.sweep-interval-ms:60000}")
+    public void sweep() {
+        boards.keySet().removeIf(challengeId -> !isLive(challengeId));
+    }
+
+    private void apply(Long challengeId, LiveEntry entry) {
+        boolean loaded = boards.containsKey(challengeId);
+        // 아직 적재 전이면 DB 에서 재구성 후 반영 (이미 포함된 기록이면 결과 동일)
+        ChallengeBoard board = board(challengeId);
+        if (board == null) {
+            return;
+        }
+        int fromRank = board.record(entry);
+        if (!loaded) {
+            fromRank = 1;
+        }
+        if (fromRank != Integer.MAX_VALUE) {
+            eventPublisher.publishEvent(new LeaderboardChangedEvent(challengeId, fromRank));
+        }
+    }
+
+    private ChallengeBoard board(Long challengeId) {
+        if (!isLive(challengeId)) {
+            boards.remove(challengeId);
+            return null;
+        }
+        ChallengeBoard board = boards.get(challengeId);
+        if (board != null) {
+            return board;
+        }
+        if (boards.size() >= maxBoards) {
+            log.warn("라이브 랭킹 보드 수 초과, 보관하지 않고 재구성: challengeId={}, boards={}", challengeId, boards.size());
+            return load(challengeId);
+        }
+        return boards.computeIfAbsent(challengeId, this::load);
+    }
+
+    // 존재하고 아직 확정되지 않은 챌린지
+    private boolean isLive(Long challengeId) {
+        return challengeCatalog.find(challengeId)
+                .filter(challenge -> challenge.getFinalizedAt() == null)
+                .isPresent();
+    }
+
+    private ChallengeBoard load(Long challengeId) {
+        ChallengeBoard board = new ChallengeBoard();
+        List<Submission> submissions = challengeRankingMapper.findSubmissionsByChallengeId(challengeId);
+        for (Submission s : submissions) {
+            if (s.getUserId() == null) {
+                continue;
+            }
+            board.record(new LiveEntry(s.getUserId(), s.getId(), s.getCorrectCount(),
+                    s.getPlayTime() != null ? s.getPlayTime() : 0.0, s.getSubmittedAt()));
+        }
+        log.info("라이브 랭킹 적재: challengeId={}, submissions={}, users={}", challengeId, submissions.size(), board.size());
+        return board;
+    }
+}
@@ -0,0 +1,167 @@
+package com.problemio.challenge.live;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회용 순서 통계 트리 (treap, 노드별 서브트리 크기 유지)
+ * - 삽입/삭제/순위/구간 조회 모두 O(log n)
+ * - 동기화는 호출하는 쪽에서 처리
+ */
+class RankTree<T> {
+
+    private final Comparator<T> comparator;
+    private Node<T> root;
+
+    RankTree(Comparator<T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(T value) {
+        root = insert(root, value);
+    }
+
+    void remove(T value) {
+        root = remove(root, value);
+    }
+
+    /**
+     * probe 보다 앞선 원소 수
+     */
+    int countBefore(T probe) {
+        int count = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (comparator.compare(node.value, probe) < 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * offset 번째(0부터)부터 limit 개를 순서대로 반환
+     */
+    List<T> range(int offset, int limit) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        collect(root, offset, limit, result);
+        return result;
+    }
+
+    private void collect(Node<T> node, int offset, int limit, List<T> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, limit, result);
+        }
+        if (result.size() < limit && offset <= leftSize) {
+            result.add(node.value);
+        }
+        if (result.size() < limit) {
+            collect(node.right, Math.max(0, offset - leftSize - 1), limit, result);
+        }
+    }
+
+    private Node<T> insert(Node<T> node, T value) {
+        if (node == null) {
+            return new Node<>(value);
+        }
+        if (comparator.compare(value, node.value) < 0) {
+            node.left = insert(node.left, value);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, value);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<T> remove(Node<T> node, T value) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(value, node.value);
+        if (cmp < 0) {
+            node.left = remove(node.left, value);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, value);
+        } else {
+            node = merge(node.left, node.right);
+        }
+        if (node != null) {
+            node.update();
+        }
+        return node;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node<T> left;
+        private Node<T> right;
+        private int size = 1;
+
+        private Node(T value) {
+            this.value = value;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
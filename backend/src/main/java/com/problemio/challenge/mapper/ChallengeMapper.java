@@ -2,13 +2,20 @@ package com.problemio.challenge.mapper;
 
 import com.problemio.challenge.domain.Challenge;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Mapper
 public interface ChallengeMapper {
     List<Challenge> findAll();
+    List<Challenge> findAllWithTargetQuiz();
     Optional<Challenge> findById(Long id);
+    List<Challenge> findPendingFinalization(@Param("until") LocalDateTime until);
+    int markFinalized(@Param("id") Long id, @Param("finalizedAt") LocalDateTime finalizedAt);
+    Integer getLock(@Param("name") String name, @Param("timeoutSeconds") int timeoutSeconds);
+    Integer releaseLock(@Param("name") String name);
     void insert(Challenge challenge);
 }
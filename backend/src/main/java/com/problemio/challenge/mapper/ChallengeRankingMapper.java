@@ -5,6 +5,7 @@ import com.problemio.challenge.dto.ChallengeRankingResponse;
 import com.problemio.submission.domain.Submission;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
@@ -17,28 +18,12 @@ public interface ChallengeRankingMapper {
     void deleteRankingsByChallengeId(@Param("challengeId") Long challengeId);
     
     // Archive Logic
-    boolean existsByChallengeId(@Param("challengeId") Long challengeId);
     List<ChallengeRankingResponse> challengeTotalRanking(@Param("challengeId") Long challengeId, @Param("limit") int limit);
     ChallengeRankingResponse loginUserRanking(@Param("userId") Long userId, @Param("challengeId") Long challengeId);
 
-    // Live Ranking (Calculated from Submissions table)
-    int getLiveRanking(
-        @Param("challengeId") Long challengeId, 
-        @Param("correctCount") int correctCount, 
-        @Param("playTime") Double playTime, 
-        @Param("submittedAt") java.time.LocalDateTime submittedAt
-    );
-
-    List<ChallengeRankingResponse> findLiveTopRankingsByChallengeId(
-        @Param("challengeId") Long challengeId, 
-        @Param("limit") int limit
-    );
-
     // Submission Helper Queries
     List<Submission> findSubmissionsByChallengeId(@Param("challengeId") Long challengeId);
-    
-    Submission findSubmissionByUserIdAndChallengeId(
-        @Param("userId") Long userId, 
-        @Param("challengeId") Long challengeId
-    );
+
+    // 회원 제출 기록을 한 행씩 전달 (확정 작업용 스트리밍 조회)
+    void scanMemberSubmissionsByChallengeId(@Param("challengeId") Long challengeId, ResultHandler<Submission> handler);
 }
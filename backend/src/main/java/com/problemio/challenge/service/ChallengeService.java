@@ -20,8 +20,6 @@ public interface ChallengeService {
 
     ChallengeResultResponse getChallengeResult(Long userId, Long challengeId);
 
-    void finalizeChallenge(Long challengeId);
-
     List<com.problemio.challenge.dto.ChallengeRankingResponse> getTopRankings(Long challengeId);
 
     com.problemio.challenge.dto.LeaderboardResponse getLeaderboard(Long challengeId, Long userId);
@@ -1,30 +1,39 @@
 package com.problemio.challenge.service;
 
+import com.problemio.challenge.catalog.ChallengeCatalog;
 import com.problemio.challenge.domain.Challenge;
-import com.problemio.challenge.domain.ChallengeRanking;
 import com.problemio.challenge.dto.ChallengeDto;
 import com.problemio.challenge.dto.ChallengeRankingResponse;
 import com.problemio.challenge.dto.ChallengeResultResponse;
 import com.problemio.challenge.dto.ChallengeStartResponse;
 import com.problemio.challenge.dto.LeaderboardResponse;
-import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.challenge.dto.LeaderboardSnapshot;
+import com.problemio.challenge.finalize.ChallengeFinalizer;
+import com.problemio.challenge.live.LeaderboardCache;
+import com.problemio.challenge.live.LiveEntry;
+import com.problemio.challenge.live.LiveLeaderboard;
 import com.problemio.challenge.mapper.ChallengeRankingMapper;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.dto.QuestionResponse;
-import com.problemio.quiz.mapper.QuestionMapper;
-import com.problemio.submission.domain.Submission;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.quiz.catalog.QuestionSampler;
+import com.problemio.quiz.domain.Question;
 import com.problemio.submission.dto.QuizAnswerResponse;
 import com.problemio.submission.dto.QuizSubmissionRequest;
-import com.problemio.submission.mapper.SubmissionMapper;
+import com.problemio.submission.engine.SubmissionState;
+import com.problemio.submission.engine.SubmissionStateStore;
 import com.problemio.submission.service.SubmissionService;
+import com.problemio.user.dto.UserResponse;
+import com.problemio.user.loader.UserLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.problemio.global.util.TimeUtils;
@@ -33,16 +42,20 @@ import com.problemio.global.util.TimeUtils;
 @RequiredArgsConstructor
 public class ChallengeServiceImpl implements ChallengeService {
 
-    private final ChallengeMapper challengeMapper;
+    private final ChallengeCatalog challengeCatalog; // 챌린지 목록 (캐시)
     private final SubmissionService submissionService;
-    private final SubmissionMapper submissionMapper; // 제출 로직 전반 검증용
-    private final QuestionMapper questionMapper; 
+    private final SubmissionStateStore submissionStateStore; // 진행 중 제출 상태 (타임어택 검증용)
+    private final QuestionCatalog questionCatalog; // 문제 목록 (캐시)
     private final ChallengeRankingMapper challengeRankingMapper; // 챌린지 랭킹 전용
+    private final LiveLeaderboard liveLeaderboard; // 진행 중 랭킹 (메모리)
+    private final ChallengeFinalizer challengeFinalizer;
+    private final LeaderboardCache leaderboardCache; // 상위 랭킹 캐시
+    private final UserLoader userLoader;
 
     @Override
     @Transactional(readOnly = true)
     public List<ChallengeDto> getChallenges() {
-        return challengeMapper.findAll().stream()
+        return challengeCatalog.findAll().stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
@@ -50,16 +63,13 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Override
     @Transactional(readOnly = true)
     public ChallengeDto getChallenge(Long challengeId) {
-        Challenge challenge = challengeMapper.findById(challengeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND)); 
-        return toDto(challenge);
+        return toDto(challengeCatalog.get(challengeId));
     }
 
     @Override
     @Transactional
     public ChallengeStartResponse startChallenge(Long userId, Long challengeId) {
-        Challenge challenge = challengeMapper.findById(challengeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        Challenge challenge = challengeCatalog.get(challengeId);
 
         if (challenge.getEndAt() != null && TimeUtils.now().isAfter(challenge.getEndAt())) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
@@ -67,7 +77,9 @@ public class ChallengeServiceImpl implements ChallengeService {
 
         Long submissionId = submissionService.createSubmission(challenge.getTargetQuizId(), userId, challengeId);
 
-        List<QuestionResponse> questions = questionMapper.findByQuizId(challenge.getTargetQuizId()).stream()
+        // 제출 id 를 seed 로 섞어 같은 세션의 출제 순서를 재현 가능하게 유지
+        List<Question> questions = questionCatalog.get(challenge.getTargetQuizId()).getQuestions();
+        List<QuestionResponse> shuffled = QuestionSampler.sample(questions, questions.size(), submissionId).stream()
                 .map(q -> QuestionResponse.builder()
                         .id(q.getId())
                         .order(q.getQuestionOrder())
@@ -76,31 +88,26 @@ public class ChallengeServiceImpl implements ChallengeService {
                         .build())
                 .collect(Collectors.toList());
 
-        Collections.shuffle(questions);
-
-
         return ChallengeStartResponse.builder()
                 .challengeId(challenge.getId())
                 .submissionId(submissionId)
                 .challengeType(challenge.getChallengeType())
                 .timeLimit(challenge.getTimeLimit())
-                .questions(questions)
+                .questions(shuffled)
                 .build();
     }
 
     @Override
     @Transactional
     public QuizAnswerResponse submitAnswer(Long userId, Long challengeId, QuizSubmissionRequest request) {
-        Challenge challenge = challengeMapper.findById(challengeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        Challenge challenge = challengeCatalog.get(challengeId);
 
-        // 타임어택 검증
+        // 타임어택 검증 (시작 시각은 진행 중 제출 상태에서 조회, 캐시 미스 시에만 DB 복원)
         if ("TIME_ATTACK".equals(challenge.getChallengeType()) && request.getSubmissionId() != null) {
-             Submission submission = submissionMapper.findById(request.getSubmissionId())
-                     .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
-             
-             if (submission.getSubmittedAt() != null) {
-                 long diffSeconds = java.time.Duration.between(submission.getSubmittedAt(), TimeUtils.now()).getSeconds();
+             SubmissionState state = submissionStateStore.get(request.getSubmissionId());
+
+             if (state.getStartedAt() != null) {
+                 long diffSeconds = java.time.Duration.between(state.getStartedAt(), TimeUtils.now()).getSeconds();
                  // 네트워크 지연 고려 5초 버퍼
                  if (diffSeconds > challenge.getTimeLimit() + 5) { 
                      throw new BusinessException(ErrorCode.ACCESS_DENIED); 
@@ -115,131 +122,69 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Transactional(readOnly = true)
     @Cacheable(value = "ranking", key = "#challengeId + '-' + #userId")
     public ChallengeResultResponse getChallengeResult(Long userId, Long challengeId) {
-        Submission submission = challengeRankingMapper.findSubmissionByUserIdAndChallengeId(userId, challengeId);
-        
-        if (submission == null) {
+        // 없는 챌린지는 여기서 QUIZ_NOT_FOUND (라이브 보드를 만들지 않음)
+        Challenge challenge = challengeCatalog.get(challengeId);
+
+        // 확정된 챌린지는 아카이브(challenge_rankings) 기준
+        if (challenge.getFinalizedAt() != null) {
+            ChallengeRankingResponse archived = challengeRankingMapper.loginUserRanking(userId, challengeId);
+            if (archived == null) {
+                throw new BusinessException(ErrorCode.ACCESS_DENIED);
+            }
+            double playTime = archived.getPlayTime() != null ? archived.getPlayTime() : 0.0;
+            return ChallengeResultResponse.builder()
+                    .challengeId(challengeId)
+                    .rank(archived.getRanking())
+                    .correctCount(archived.getScore() != null ? archived.getScore().intValue() : 0)
+                    .playTime(playTime)
+                    .formattedTime(String.format("%.3f", playTime))
+                    .challengeType(challenge.getChallengeType())
+                    .build();
+        }
+
+        LiveEntry best = liveLeaderboard.best(challengeId, userId);
+
+        if (best == null) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        int rank = challengeRankingMapper.getLiveRanking(
-            challengeId, 
-            submission.getCorrectCount(), 
-            submission.getPlayTime(), 
-            submission.getSubmittedAt()
-        );
+        int rank = liveLeaderboard.rankOf(challengeId, best);
 
-        double playTimeSeconds = submission.getPlayTime() != null ? submission.getPlayTime() : 0.0;
-        String formattedTime = String.format("%.3f", playTimeSeconds);
+        String formattedTime = String.format("%.3f", best.playTime());
 
         return ChallengeResultResponse.builder()
                 .challengeId(challengeId)
-                .submissionId(submission.getId())
+                .submissionId(best.submissionId())
                 .rank(rank)
-                .correctCount(submission.getCorrectCount())
-                .playTime(submission.getPlayTime())
+                .correctCount(best.correctCount())
+                .playTime(best.playTime())
                 .formattedTime(formattedTime)
-                .challengeType(challengeMapper.findById(challengeId).map(Challenge::getChallengeType).orElse("UNKNOWN"))
+                .challengeType(challenge.getChallengeType())
                 .build();
     }
 
     @Override
-    @Transactional
-    public void finalizeChallenge(Long challengeId) {
-        // 1. 전체 제출 내역 조회
-        List<Submission> submissions = challengeRankingMapper.findSubmissionsByChallengeId(challengeId);
-
-        if (submissions.isEmpty()) {
-            return;
-        }
-
-        // 2. 사용자별 최고 기록 필터링 (Map 사용)
-        java.util.Map<Long, Submission> bestSubmissionsMap = new java.util.HashMap<>();
-        
-        for (Submission s : submissions) {
-            if (!bestSubmissionsMap.containsKey(s.getUserId())) {
-                bestSubmissionsMap.put(s.getUserId(), s);
-            } else {
-                Submission existing = bestSubmissionsMap.get(s.getUserId());
-                // 비교: 정답수 내림차순, 소요시간 오름차순, 제출일시 오름차순
-                boolean isBetter = false;
-                if (s.getCorrectCount() > existing.getCorrectCount()) {
-                    isBetter = true;
-                } else if (s.getCorrectCount() == existing.getCorrectCount()) {
-                    if (s.getPlayTime() < existing.getPlayTime()) {
-                        isBetter = true;
-                    } else if (s.getPlayTime().equals(existing.getPlayTime())) {
-                        if (s.getSubmittedAt().isBefore(existing.getSubmittedAt())) {
-                            isBetter = true;
-                        }
-                    }
-                }
-                
-                if (isBetter) {
-                    bestSubmissionsMap.put(s.getUserId(), s);
-                }
-            }
-        }
-        
-        List<Submission> bestSubmissions = new java.util.ArrayList<>(bestSubmissionsMap.values());
-
-        // 3. 최고 기록 정렬
-        bestSubmissions.sort((s1, s2) -> {
-            if (s1.getCorrectCount() != s2.getCorrectCount()) {
-                return s2.getCorrectCount() - s1.getCorrectCount(); 
-            }
-            if (!s1.getPlayTime().equals(s2.getPlayTime())) {
-                return Double.compare(s1.getPlayTime(), s2.getPlayTime());
-            }
-            return s1.getSubmittedAt().compareTo(s2.getSubmittedAt()); 
-        });
-
-        // 4. 랭킹 엔티티 생성
-        List<ChallengeRanking> rankings = new java.util.ArrayList<>();
-        for (int i = 0; i < bestSubmissions.size(); i++) {
-            Submission s = bestSubmissions.get(i);
-            
-            ChallengeRanking ranking = new ChallengeRanking();
-            ranking.setChallengeId(challengeId);
-            ranking.setUserId(s.getUserId());
-            ranking.setRanking(i + 1);
-            ranking.setScore((double) s.getCorrectCount());
-            ranking.setPlayTime(s.getPlayTime());
-            ranking.setCreatedAt(TimeUtils.now());
-            
-            rankings.add(ranking);
-        }
-
-        // 5. 기존 랭킹 초기화 및 저장
-        challengeRankingMapper.deleteRankingsByChallengeId(challengeId);
-        challengeRankingMapper.insertRankings(rankings);
-    }
-
-    @Override
-    @Transactional // 지연 확정(쓰기) 발생 가능하므로 readOnly 제외
-    @Cacheable(value = "leaderboard", key = "#challengeId")
+    @Transactional(readOnly = true)
     public List<ChallengeRankingResponse> getTopRankings(Long challengeId) {
-        // DTO에 챌린지 타입 포함
-        List<ChallengeRankingResponse> topRankings = resolveTopRankings(challengeId);
-        
-        String type = challengeMapper.findById(challengeId).map(Challenge::getChallengeType).orElse("UNKNOWN");
-        topRankings.forEach(r -> r.setChallengeType(type));
-        
-        return topRankings;
+        Challenge challenge = challengeCatalog.get(challengeId);
+        return leaderboardCache.get(challenge.getId(), () -> resolveTopRankings(challenge)).getTopRankings();
     }
 
     @Override
-    @Transactional // readOnly 제외
+    @Transactional(readOnly = true)
     public LeaderboardResponse getLeaderboard(Long challengeId, Long userId) {
-        // 1. 상위 랭킹 조회 (필요 시 지연 확정)
-        List<ChallengeRankingResponse> topRankings = resolveTopRankings(challengeId);
-        
-        String type = challengeMapper.findById(challengeId).map(Challenge::getChallengeType).orElse("UNKNOWN");
-        topRankings.forEach(r -> r.setChallengeType(type));
+        Challenge challenge = challengeCatalog.get(challengeId);
+        String type = challenge.getChallengeType();
+
+        // 1. 상위 랭킹 조회 (진행 중엔 짧게, 확정 후엔 길게 캐시)
+        List<ChallengeRankingResponse> topRankings = leaderboardCache
+                .get(challenge.getId(), () -> resolveTopRankings(challenge))
+                .getTopRankings();
 
         // 2. 내 랭킹 조회
         ChallengeRankingResponse myRanking = null;
         if (userId != null) {
-            myRanking = findMyBestRanking(userId, challengeId, type);
+            myRanking = findMyBestRanking(userId, challenge);
         }
         
         // 기록 없음 시 0점 반환 ("10등 + 내 기록 0점" 요청 반영)
@@ -262,81 +207,106 @@ public class ChallengeServiceImpl implements ChallengeService {
     }
     
     // 진행중/종료 상태 무관하게 내 최고 랭킹 조회
-    private ChallengeRankingResponse findMyBestRanking(Long userId, Long challengeId, String challengeType) {
-         boolean isExpired = isChallengeExpired(challengeId);
-         
-         if (isExpired) {
-             // 1. 아카이브(종료됨) 확인
+    private ChallengeRankingResponse findMyBestRanking(Long userId, Challenge challenge) {
+         Long challengeId = challenge.getId();
+         String challengeType = challenge.getChallengeType();
+
+         if (challenge.getFinalizedAt() != null) {
+             // 1. 확정된 아카이브 확인
              ChallengeRankingResponse ranking = challengeRankingMapper.loginUserRanking(userId, challengeId);
              if (ranking != null) {
                  ranking.setChallengeType(challengeType);
-                 return ranking;
              }
-             // 아카이브에 없으면 안전장치로 라이브 데이터 확인
+             return ranking;
          }
          
-         // 2. 라이브 데이터 확인 (진행중 또는 폴백)
-         Submission s = challengeRankingMapper.findSubmissionByUserIdAndChallengeId(userId, challengeId);
-         if (s != null) {
-             int rank = challengeRankingMapper.getLiveRanking(
-                 challengeId, 
-                 s.getCorrectCount(), 
-                 s.getPlayTime(), 
-                 s.getSubmittedAt()
-             );
-             
+         // 2. 라이브 데이터 확인 (진행중 또는 확정 대기)
+         LiveEntry best = liveLeaderboard.best(challengeId, userId);
+         if (best != null) {
              return ChallengeRankingResponse.builder()
                      .challengeId(challengeId)
                      .userId(userId)
-                     .ranking(rank)
+                     .ranking(liveLeaderboard.rankOf(challengeId, best))
                      .nickname("Me")
-                     .score((double) s.getCorrectCount())
-                     .playTime(s.getPlayTime())
+                     .score((double) best.correctCount())
+                     .playTime(best.playTime())
                      .challengeType(challengeType)
                      .build();
          }
          
          return null;
     }
-    
-    // 지연 확정을 위한 헬퍼 메서드
-    private List<ChallengeRankingResponse> resolveTopRankings(Long challengeId) {
-        Challenge challenge = challengeMapper.findById(challengeId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
-        
-        boolean isExpired = challenge.getEndAt() != null && TimeUtils.now().isAfter(challenge.getEndAt());
+
+    // 확정 여부에 따라 아카이브 / 라이브 상위 랭킹 조회
+    private LeaderboardSnapshot resolveTopRankings(Challenge challenge) {
+        Long challengeId = challenge.getId();
         
-        if (isExpired) {
-            // 아카이브 여부 확인
-            if (!challengeRankingMapper.existsByChallengeId(challengeId)) {
-                // 지연 확정 실행
-                finalizeChallenge(challengeId);
-            }
+        if (challenge.getFinalizedAt() != null) {
             // 아카이브 데이터 반환
-            return challengeRankingMapper.challengeTotalRanking(challengeId, 10);
-        } else {
-            // 라이브 데이터 반환
-            return challengeRankingMapper.findLiveTopRankingsByChallengeId(challengeId, 10);
+            List<ChallengeRankingResponse> archived = challengeRankingMapper.challengeTotalRanking(challengeId, LeaderboardCache.TOP_SIZE);
+            archived.forEach(r -> r.setChallengeType(challenge.getChallengeType()));
+            return new LeaderboardSnapshot(archived, true);
         }
-    }
-    
-    private boolean isChallengeExpired(Long challengeId) {
-        Challenge challenge = challengeMapper.findById(challengeId).orElse(null);
-        return challenge != null && challenge.getEndAt() != null && TimeUtils.now().isAfter(challenge.getEndAt());
+        
+        if (challenge.getEndAt() != null && TimeUtils.now().isAfter(challenge.getEndAt())) {
+            // 종료 후 미확정: 확정 요청만 걸어두고 (동시 요청은 하나로 합쳐짐) 기다리지 않음
+            challengeFinalizer.request(challengeId);
+        }
+        // 라이브 데이터 반환 (확정 완료 전까지)
+        List<ChallengeRankingResponse> live = findLiveTopRankings(challengeId, LeaderboardCache.TOP_SIZE);
+        live.forEach(r -> r.setChallengeType(challenge.getChallengeType()));
+        return new LeaderboardSnapshot(live, false);
     }
 
-    private final com.problemio.quiz.mapper.QuizMapper quizMapper;
+    // 메모리 라이브 랭킹 상위 N (탈퇴 회원 제외, 같은 기록은 같은 순위)
+    private List<ChallengeRankingResponse> findLiveTopRankings(Long challengeId, int limit) {
+        List<ChallengeRankingResponse> rankings = new ArrayList<>();
+        LiveEntry previous = null;
+        int offset = 0;
 
+        while (rankings.size() < limit) {
+            List<LiveEntry> entries = liveLeaderboard.range(challengeId, offset, limit);
+            if (entries.isEmpty()) {
+                break;
+            }
+            offset += entries.size();
+
+            Map<Long, UserResponse> users = userLoader.loadAll(entries.stream().map(LiveEntry::userId).toList());
+
+            for (LiveEntry entry : entries) {
+                UserResponse user = users.get(entry.userId());
+                if (user == null) {
+                    continue;
+                }
+                int ranking = previous != null && previous.sameRecord(entry)
+                        ? rankings.get(rankings.size() - 1).getRanking()
+                        : rankings.size() + 1;
+                rankings.add(ChallengeRankingResponse.builder()
+                        .challengeId(challengeId)
+                        .userId(entry.userId())
+                        .nickname(user.getNickname())
+                        .profileImageUrl(user.getProfileImageUrl())
+                        .ranking(ranking)
+                        .score((double) entry.correctCount())
+                        .playTime(entry.playTime())
+                        .recordedAt(entry.submittedAt())
+                        .build());
+                previous = entry;
+                if (rankings.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return rankings;
+    }
+    
     private ChallengeDto toDto(Challenge challenge) {
-        // 타겟 퀴즈 조회
-        com.problemio.quiz.domain.Quiz quiz = quizMapper.findById(challenge.getTargetQuizId()).orElse(null);
         com.problemio.quiz.dto.QuizResponse quizResponse = null;
-        
-        if (quiz != null) {
+        if (challenge.getTargetQuizTitle() != null) {
             quizResponse = com.problemio.quiz.dto.QuizResponse.builder()
-                .id(quiz.getId())
-                .title(quiz.getTitle())
-                .thumbnailUrl(quiz.getThumbnailUrl())
+                .id(challenge.getTargetQuizId())
+                .title(challenge.getTargetQuizTitle())
+                .thumbnailUrl(challenge.getTargetQuizThumbnailUrl())
                 // 썸네일 표시에 필요한 기본 필드만 포함
                 .build();
         }
@@ -6,6 +6,7 @@ import com.problemio.comment.dto.CommentResponse;
 import com.problemio.comment.dto.CommentUpdateRequest;
 import com.problemio.comment.service.CommentService;
 import com.problemio.global.auth.CustomUserDetails;
+import com.problemio.global.dto.CursorResponse;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -65,6 +66,17 @@ public class CommentController {
         return commentService.getComments(quizId, userId, page, size);
     }
 
+    @GetMapping("/quizzes/{quizId}/comments/scroll")
+    public CursorResponse<CommentResponse> scrollComments(
+            @PathVariable Long quizId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
+        return commentService.scrollComments(quizId, userId, cursor, size);
+    }
+
     @GetMapping("/comments/{commentId}/replies")
     public List<CommentResponse> getReplies(
             @PathVariable Long commentId,
@@ -0,0 +1,47 @@
+package com.problemio.comment.counter;
+
+import com.problemio.comment.mapper.CommentMapper;
+import com.problemio.quiz.mapper.QuizMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * quizzes.comment_count / comments.reply_count 보정 작업
+ * - 목록 조회는 두 컬럼만 읽으므로, 작성/삭제/퀴즈 삭제 경로에서 어긋난 값을 주기적으로 복구
+ * - LikeCountReconciler 와 동일하게 id 구간 단위로 나눠서 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final QuizMapper quizMapper;
+    private final CommentMapper commentMapper;
+
+    @Value("${comment.count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${comment.count.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        int step = Math.max(batchSize, 1);
+
+        int quizzes = 0;
+        long maxQuizId = quizMapper.findMaxId();
+        for (long fromId = 1; fromId <= maxQuizId; fromId += step) {
+            quizzes += quizMapper.reconcileCommentCounts(fromId, fromId + step - 1);
+        }
+
+        int comments = 0;
+        long maxCommentId = commentMapper.findMaxId();
+        for (long fromId = 1; fromId <= maxCommentId; fromId += step) {
+            comments += commentMapper.reconcileReplyCounts(fromId, fromId + step - 1);
+        }
+
+        if (quizzes > 0 || comments > 0) {
+            log.info("[CommentCount] repaired comment_count on {} quizzes, reply_count on {} comments", quizzes, comments);
+        }
+    }
+}
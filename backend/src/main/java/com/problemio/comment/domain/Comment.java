@@ -18,6 +18,7 @@ public class Comment {
 
     private String content;
     private Integer likeCount;
+    private int replyCount; // 삭제되지 않은 직속 대댓글 수 (집계 컬럼)
 
     private boolean deleted;
 
@@ -14,7 +14,8 @@ public interface CommentMapper {
 
     void updateComment(Comment comment);
 
-    void softDeleteComment(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+    // 삭제된 행 수 반환 (이미 삭제된 댓글이면 0)
+    int softDeleteComment(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
 
     void updateRootCommentId(@Param("id") Long id, @Param("rootCommentId") Long rootCommentId);
 
@@ -26,13 +27,25 @@ public interface CommentMapper {
             @Param("offset") int offset
     );
 
+    List<Comment> scrollRootCommentsByQuizId(
+            @Param("quizId") Long quizId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
     List<Comment> findRepliesByParentId(@Param("parentId") Long parentId);
 
     int countCommentsByQuizId(@Param("quizId") Long quizId);
 
-    List<CommentReplyCount> countRepliesByParentIds(@Param("parentIds") List<Long> parentIds);
+    void increaseReplyCount(@Param("commentId") Long commentId);
 
-    List<CommentCount> countCommentsByQuizIds(@Param("quizIds") List<Long> quizIds);
+    void decreaseReplyCount(@Param("commentId") Long commentId);
+
+    long findMaxId();
+
+    // [fromId, toId] 구간의 reply_count를 실제 대댓글 수로 보정, 보정된 행 수 반환
+    int reconcileReplyCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 
     void increaseLikeCount(@Param("commentId") Long commentId);
 
@@ -49,23 +62,4 @@ public interface CommentMapper {
     void anonymizeByUserId(@Param("userId") Long userId, @Param("updatedAt") LocalDateTime updatedAt);
 
     void deleteByUserId(@Param("userId") Long userId);
-
-    class CommentReplyCount {
-        private Long parentId;
-        private Integer count;
-
-        public Long getParentId() { return parentId; }
-        public void setParentId(Long parentId) { this.parentId = parentId; }
-        public Integer getCount() { return count; }
-        public void setCount(Integer count) { this.count = count; }
-    }
-
-    class CommentCount {
-        private Long quizId;
-        private Integer count;
-        public Long getQuizId() { return quizId; }
-        public void setQuizId(Long quizId) { this.quizId = quizId; }
-        public Integer getCount() { return count; }
-        public void setCount(Integer count) { this.count = count; }
-    }
 }
@@ -3,6 +3,7 @@ package com.problemio.comment.service;
 import com.problemio.comment.dto.CommentCreateRequest;
 import com.problemio.comment.dto.CommentResponse;
 import com.problemio.comment.dto.CommentUpdateRequest;
+import com.problemio.global.dto.CursorResponse;
 
 import java.util.List;
 
@@ -33,6 +34,13 @@ public interface CommentService {
      */
     List<CommentResponse> getComments(Long quizId, Long userId, int page, int size);
 
+    /**
+     * 퀴즈별 댓글 목록 커서 조회 (최신순, 무한 스크롤)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    CursorResponse<CommentResponse> scrollComments(Long quizId, Long userId, String cursor, int size);
+
     /**
      * 특정 댓글의 대댓글 조회 (정렬: 작성순)
      */
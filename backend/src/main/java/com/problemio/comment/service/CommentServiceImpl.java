@@ -7,22 +7,24 @@ import com.problemio.comment.dto.CommentResponse;
 import com.problemio.comment.dto.CommentUpdateRequest;
 import com.problemio.comment.mapper.CommentLikeMapper;
 import com.problemio.comment.mapper.CommentMapper;
+import com.problemio.global.dto.CursorResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.mapper.QuizMapper;
 import com.problemio.user.dto.UserResponse;
-import com.problemio.user.mapper.UserMapper;
+import com.problemio.user.loader.UserLoader;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
+import com.problemio.global.util.CursorCodec;
 import com.problemio.global.util.TimeUtils;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,12 +33,15 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentMapper commentMapper;
     private final CommentLikeMapper commentLikeMapper;
-    private final UserMapper userMapper;
+    private final UserLoader userLoader;
     private final QuizMapper quizMapper;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 게스트 비밀번호 해싱/확인은 트랜잭션 밖에서 수행하고 쓰기만 트랜잭션으로 묶음 (해싱 대기 중 커넥션 점유 방지)
+     */
     @Override
-    @Transactional
     public void createComment(Long quizId, Long userId, CommentCreateRequest request, String writerIp) {
         if (quizMapper.findById(quizId).isEmpty()) {
             throw new BusinessException(ErrorCode.QUIZ_NOT_FOUND);
@@ -85,16 +90,20 @@ public class CommentServiceImpl implements CommentService {
         comment.setCreatedAt(now);
         comment.setUpdatedAt(now);
 
-        commentMapper.insertComment(comment);
+        transactionTemplate.executeWithoutResult(status -> {
+            commentMapper.insertComment(comment);
 
-        // 루트 댓글: root_comment_id를 자신의 ID로 설정
-        if (request.getParentCommentId() == null) {
-            commentMapper.updateRootCommentId(comment.getId(), comment.getId());
-        }
+            // 루트 댓글: root_comment_id를 자신의 ID로 설정
+            if (request.getParentCommentId() == null) {
+                commentMapper.updateRootCommentId(comment.getId(), comment.getId());
+            } else {
+                commentMapper.increaseReplyCount(request.getParentCommentId());
+            }
+            quizMapper.incrementCommentCount(quizId);
+        });
     }
 
     @Override
-    @Transactional
     public void updateComment(Long commentId, Long userId, CommentUpdateRequest request) {
         Comment existing = commentMapper.findById(commentId);
         if (existing == null || existing.isDeleted()) {
@@ -121,7 +130,6 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    @Transactional
     public void deleteComment(Long commentId, com.problemio.user.domain.User user, String guestPassword) {
         Comment existing = commentMapper.findById(commentId);
         if (existing == null || existing.isDeleted()) {
@@ -156,8 +164,16 @@ public class CommentServiceImpl implements CommentService {
             }
         }
 
-        // 물리 삭제 대신 논리 삭제(Soft Delete)
-        commentMapper.softDeleteComment(commentId, TimeUtils.now());
+        // 물리 삭제 대신 논리 삭제(Soft Delete), 동시 삭제 시 한 번만 집계 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            if (commentMapper.softDeleteComment(commentId, TimeUtils.now()) == 0) {
+                return;
+            }
+            if (existing.getParentCommentId() != null) {
+                commentMapper.decreaseReplyCount(existing.getParentCommentId());
+            }
+            quizMapper.decrementCommentCount(existing.getQuizId());
+        });
     }
 
     @Override
@@ -168,64 +184,25 @@ public class CommentServiceImpl implements CommentService {
         int offset = (pageSafe - 1) * sizeSafe;
 
         List<Comment> comments = commentMapper.findRootCommentsByQuizId(quizId, sizeSafe, offset);
+        return toResponses(comments, userId);
+    }
 
-        List<Long> writerIds = comments.stream()
-                .map(Comment::getUserId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        Map<Long, UserResponse> writers = writerIds.isEmpty()
-                ? Collections.emptyMap()
-                : userMapper.findByIds(writerIds).stream()
-                .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
-
-        List<Long> rootIds = comments.stream()
-                .map(Comment::getId)
-                .toList();
-
-        Set<Long> likedIds = (userId != null && !rootIds.isEmpty())
-                ? new HashSet<>(commentLikeMapper.findLikedCommentIds(userId, rootIds))
-                : Collections.emptySet();
-
-        Map<Long, Integer> replyCounts = rootIds.isEmpty()
-                ? Collections.emptyMap()
-                : commentMapper.countRepliesByParentIds(rootIds).stream()
-                .collect(Collectors.toMap(CommentMapper.CommentReplyCount::getParentId, CommentMapper.CommentReplyCount::getCount));
-
-        return comments.stream()
-                .map(comment -> {
-                    UserResponse writer = comment.getUserId() != null
-                            ? writers.get(comment.getUserId())
-                            : null;
-
-                    String nickname = writer != null ? writer.getNickname() : comment.getGuestNickname();
-                    String profileImage = writer != null ? writer.getProfileImageUrl() : null;
-
-                    boolean isOwner = userId != null && comment.getUserId() != null && userId.equals(comment.getUserId());
-                    boolean likedByMe = likedIds.contains(comment.getId());
-
-                    return CommentResponse.builder()
-                            .id(comment.getId())
-                            .quizId(comment.getQuizId())
-                            .userId(comment.getUserId())
-                            .parentCommentId(comment.getParentCommentId())
-                            .rootCommentId(comment.getRootCommentId())
-                            .nickname(nickname)
-                            .profileImageUrl(profileImage)
-
-                            .content(comment.getContent())
-                            .likeCount(comment.getLikeCount())
-                            .replyCount(replyCounts.getOrDefault(comment.getId(), 0))
-
-                            .mine(isOwner)
-                            .likedByMe(likedByMe)
-
-                            .createdAt(comment.getCreatedAt())
-                            .updatedAt(comment.getUpdatedAt())
-                            .build();
-                })
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> scrollComments(Long quizId, Long userId, String cursor, int size) {
+        int sizeSafe = Math.min(Math.max(size, 1), 100);
+        CursorCodec.TimeKey after = (cursor != null && !cursor.isBlank()) ? CursorCodec.TimeKey.decode(cursor) : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Comment> comments = commentMapper.scrollRootCommentsByQuizId(
+                quizId,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                sizeSafe + 1
+        );
+
+        return CursorResponse.of(comments, sizeSafe, c -> new CursorCodec.TimeKey(c.getCreatedAt(), c.getId()).encode())
+                .map(page -> toResponses(page, userId));
     }
 
     @Override
@@ -237,28 +214,26 @@ public class CommentServiceImpl implements CommentService {
         }
 
         List<Comment> comments = commentMapper.findRepliesByParentId(parentCommentId);
+        return toResponses(comments, userId);
+    }
 
+    /**
+     * 댓글 목록 응답 변환 (작성자, 좋아요 여부 일괄 조회, 대댓글 수는 reply_count 컬럼)
+     */
+    private List<CommentResponse> toResponses(List<Comment> comments, Long userId) {
         List<Long> writerIds = comments.stream()
                 .map(Comment::getUserId)
                 .filter(Objects::nonNull)
                 .distinct()
                 .toList();
 
-        Map<Long, UserResponse> writers = writerIds.isEmpty()
-                ? Collections.emptyMap()
-                : userMapper.findByIds(writerIds).stream()
-                .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
+        Map<Long, UserResponse> writers = userLoader.loadAll(writerIds);
 
         List<Long> ids = comments.stream().map(Comment::getId).toList();
         Set<Long> likedIds = (userId != null && !ids.isEmpty())
                 ? new HashSet<>(commentLikeMapper.findLikedCommentIds(userId, ids))
                 : Collections.emptySet();
 
-        Map<Long, Integer> replyCounts = ids.isEmpty()
-                ? Collections.emptyMap()
-                : commentMapper.countRepliesByParentIds(ids).stream()
-                .collect(Collectors.toMap(CommentMapper.CommentReplyCount::getParentId, CommentMapper.CommentReplyCount::getCount));
-
         return comments.stream()
                 .map(comment -> {
                     UserResponse writer = comment.getUserId() != null
@@ -281,7 +256,7 @@ public class CommentServiceImpl implements CommentService {
                             .profileImageUrl(profileImage)
                             .content(comment.getContent())
                             .likeCount(comment.getLikeCount())
-                            .replyCount(replyCounts.getOrDefault(comment.getId(), 0))
+                            .replyCount(comment.getReplyCount())
                             .mine(isOwner)
                             .likedByMe(likedByMe)
                             .createdAt(comment.getCreatedAt())
@@ -0,0 +1,181 @@
+package com.problemio.global.auth;
+
+import com.problemio.global.dto.PasswordHashingStatsResponse;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 스레드풀을 거치는 PasswordEncoder
+ * - BCrypt 는 CPU 를 오래 쓰므로 동시 실행 수를 스레드 수로 제한해 다른 API 가 굶지 않도록 함
+ * - 대기열이 가득 차거나 timeout 안에 해싱을 시작하지 못하면 TOO_MANY_REQUESTS (429)
+ * - BCrypt 는 인터럽트로 멈추지 않으므로 이미 시작한 해싱은 취소하지 않고 끝까지 기다림
+ * - encode / matches 별로 대기 시간과 해싱 시간 기록 (GET /api/admin/password-hashing)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    private final OperationStats encodeStats = new OperationStats("encode");
+    private final OperationStats matchesStats = new OperationStats("matches");
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeStats, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesStats, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public List<PasswordHashingStatsResponse> snapshot() {
+        return List.of(encodeStats.toResponse(executor), matchesStats.toResponse(executor));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T run(OperationStats stats, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        // 작업 시작과 대기 포기 중 먼저 일어난 쪽만 성공
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    stats.record(startedAt - submittedAt, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stats.rejected.increment();
+            log.warn("[PasswordHashing] queue full, rejecting {}", stats.operation);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            try {
+                return get(future, timeoutNanos);
+            } catch (TimeoutException e) {
+                if (abandon(claimed, future)) {
+                    stats.rejected.increment();
+                    log.warn("[PasswordHashing] {} waited too long in queue, rejecting", stats.operation);
+                    throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+                }
+                // 이미 해싱 중이면 취소하지 않고 결과까지 대기 (해싱 시간은 cost 로 제한됨)
+                return get(future, Long.MAX_VALUE);
+            }
+        } catch (InterruptedException e) {
+            abandon(claimed, future);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 아직 시작하지 않은 작업이면 대기열에서 빼고 true
+     */
+    private boolean abandon(AtomicBoolean claimed, Future<?> future) {
+        if (!claimed.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.remove((Runnable) future);
+        return true;
+    }
+
+    private static <T> T get(Future<T> future, long timeoutNanos) throws InterruptedException, TimeoutException {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class OperationStats {
+        private final String operation;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder hashNanos = new LongAdder();
+        private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0L);
+
+        private OperationStats(String operation) {
+            this.operation = operation;
+        }
+
+        private void record(long wait, long hash) {
+            count.increment();
+            waitNanos.add(wait);
+            hashNanos.add(hash);
+            maxHashNanos.accumulate(hash);
+        }
+
+        private PasswordHashingStatsResponse toResponse(ThreadPoolExecutor executor) {
+            long n = count.sum();
+            return PasswordHashingStatsResponse.builder()
+                    .operation(operation)
+                    .count(n)
+                    .rejectedCount(rejected.sum())
+                    .averageWaitMs(n == 0 ? 0 : waitNanos.sum() / (double) n / 1_000_000.0)
+                    .averageHashMs(n == 0 ? 0 : hashNanos.sum() / (double) n / 1_000_000.0)
+                    .maxHashMs(maxHashNanos.get() / 1_000_000.0)
+                    .queued(executor.getQueue().size())
+                    .active(executor.getActiveCount())
+                    .build();
+        }
+    }
+}
@@ -16,6 +16,17 @@ public class CustomUserDetails implements UserDetails {
 
     private final User user;
 
+    /**
+     * 토큰 클레임만으로 만드는 principal (DB 조회 없음, 비밀번호 해시 없음)
+     */
+    public static CustomUserDetails ofClaims(Long userId, String email, String role) {
+        User user = new User();
+        user.setId(userId);
+        user.setEmail(email);
+        user.setRole(role);
+        return new CustomUserDetails(user);
+    }
+
     // 권한 반환
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
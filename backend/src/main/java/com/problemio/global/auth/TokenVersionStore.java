@@ -0,0 +1,67 @@
+package com.problemio.global.auth;
+
+import com.problemio.user.mapper.UserAuthMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유저별 현재 토큰 버전 (userId → token_version)
+ * - stateless 인증에서 토큰에 담긴 버전과 비교해 비밀번호 변경/탈퇴 이전 토큰을 거부
+ * - tokenVersion 캐시에 정수만 보관, 변경 시 무효화는 CacheManager 를 통해 다른 인스턴스에도 전파
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionStore {
+
+    static final String CACHE_NAME = "tokenVersion";
+    // 탈퇴/미존재 회원 표시 (어떤 토큰 버전과도 일치하지 않음)
+    static final int REVOKED = -1;
+
+    private final CacheManager cacheManager;
+    private final UserAuthMapper userAuthMapper;
+
+    /**
+     * 현재 유효한 토큰 버전, 탈퇴했거나 없는 회원이면 -1
+     */
+    public int current(Long userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return load(userId);
+        }
+        Integer version = cache.get(userId, () -> load(userId));
+        return version != null ? version : REVOKED;
+    }
+
+    /**
+     * 버전을 올려 이전에 발급된 Access Token 을 모두 무효화
+     * - 커밋 전에 다른 요청이 옛 값을 다시 적재할 수 있으므로 커밋 후 한 번 더 무효화
+     */
+    public void revoke(Long userId) {
+        userAuthMapper.increaseTokenVersion(userId);
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private int load(Long userId) {
+        Integer version = userAuthMapper.findTokenVersion(userId);
+        return version != null ? version : REVOKED;
+    }
+
+    private void evictNow(Long userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
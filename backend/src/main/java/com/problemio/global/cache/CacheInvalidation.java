@@ -0,0 +1,9 @@
+package com.problemio.global.cache;
+
+import java.io.Serializable;
+
+/**
+ * 다른 인스턴스에 보내는 L1 무효화 메시지 (key 가 null 이면 캐시 전체)
+ */
+public record CacheInvalidation(String origin, String cacheName, Object key) implements Serializable {
+}
@@ -0,0 +1,50 @@
+package com.problemio.global.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.problemio.global.dto.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시별 적중/미스/축출/적재 시간 통계 수집 (관리자 조회용)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<InstrumentedCache> instrumentedCaches;
+
+    public List<CacheStatsResponse> snapshot() {
+        List<CacheStatsResponse> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+                result.add(toResponse(name, caffeine.stats(), caffeine.estimatedSize()));
+            }
+        }
+        instrumentedCaches.orderedStream()
+                .forEach(cache -> result.add(toResponse(cache.getCacheName(), cache.stats(), cache.estimatedSize())));
+        return result;
+    }
+
+    private static CacheStatsResponse toResponse(String name, CacheStats stats, long size) {
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMs(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.problemio.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 크기/만료 설정 (cache.specs.{cacheName}.*)
+ * - 지정하지 않은 항목은 CacheConfig 의 기본값 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache")
+public class CacheSpecProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * 설정값이 있으면 덮어쓰고, 없으면 기본값 유지
+     */
+    public Spec resolve(String cacheName, Spec defaults) {
+        Spec override = specs.get(cacheName);
+        if (override == null) {
+            return defaults;
+        }
+        return new Spec(
+                override.getMaximumSize() != null ? override.getMaximumSize() : defaults.getMaximumSize(),
+                override.getExpireAfterWrite() != null ? override.getExpireAfterWrite() : defaults.getExpireAfterWrite(),
+                override.getExpireAfterAccess() != null ? override.getExpireAfterAccess() : defaults.getExpireAfterAccess()
+        );
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+
+        public static Spec afterWrite(long maximumSize, Duration ttl) {
+            return new Spec(maximumSize, ttl, null);
+        }
+
+        public static Spec afterAccess(long maximumSize, Duration ttl) {
+            return new Spec(maximumSize, null, ttl);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.problemio.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서 동작하는 공유 계층 (테스트 / 단일 프로세스 다중 CacheManager 용 대체 구현)
+ * - 메시지는 구독자에게 동기 전달
+ */
+public class InProcessCacheTier implements RemoteCacheTier {
+
+    private final Set<String> sharedCaches;
+    private final Map<String, Map<Object, Object>> store = new ConcurrentHashMap<>();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public InProcessCacheTier(Set<String> sharedCaches) {
+        this.sharedCaches = Set.copyOf(sharedCaches);
+    }
+
+    @Override
+    public boolean isShared(String cacheName) {
+        return sharedCaches.contains(cacheName);
+    }
+
+    @Override
+    public Cache.ValueWrapper get(String cacheName, Object key) {
+        Map<Object, Object> entries = store.get(cacheName);
+        if (entries == null || !entries.containsKey(key)) {
+            return null;
+        }
+        return new SimpleValueWrapper(entries.get(key));
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        store.computeIfAbsent(cacheName, k -> new ConcurrentHashMap<>()).put(key, value);
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Map<Object, Object> entries = store.get(cacheName);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        store.remove(cacheName);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
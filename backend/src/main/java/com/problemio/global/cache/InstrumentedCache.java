@@ -0,0 +1,15 @@
+package com.problemio.global.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * CacheManager 밖에서 직접 Caffeine 을 쓰는 캐시의 통계 노출용
+ */
+public interface InstrumentedCache {
+
+    String getCacheName();
+
+    CacheStats stats();
+
+    long estimatedSize();
+}
@@ -0,0 +1,119 @@
+package com.problemio.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 공유 계층
+ * - 값: cache:{cacheName}:{key} (TTL 적용, JDK 직렬화)
+ * - 무효화: pub/sub 채널로 CacheInvalidation 전달
+ */
+@Slf4j
+public class RedisCacheTier implements RemoteCacheTier {
+
+    static final String KEY_PREFIX = "cache:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+    private final Set<String> sharedCaches;
+    private final Duration ttl;
+
+    public RedisCacheTier(RedisTemplate<String, Object> redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          String channel,
+                          Set<String> sharedCaches,
+                          Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(channel);
+        this.sharedCaches = Set.copyOf(sharedCaches);
+        this.ttl = ttl;
+    }
+
+    @Override
+    public boolean isShared(String cacheName) {
+        return sharedCaches.contains(cacheName);
+    }
+
+    @Override
+    public Cache.ValueWrapper get(String cacheName, Object key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(redisKey(cacheName, key));
+            return value != null ? new SimpleValueWrapper(value) : null;
+        } catch (RuntimeException e) {
+            // L2 장애 시 미스로 처리 (DB 조회로 대체)
+            log.warn("L2 캐시 조회 실패: {}:{}", cacheName, key, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheName, key), value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 저장 실패: {}:{}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        try {
+            redisTemplate.delete(redisKey(cacheName, key));
+        } catch (RuntimeException e) {
+            // 실패해도 호출 흐름은 유지 (남은 값은 L2 TTL 로 만료)
+            log.warn("L2 캐시 삭제 실패: {}:{}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + cacheName + ":*").count(500).build();
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 비우기 실패: {}", cacheName, e);
+        }
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), invalidation);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 인스턴스의 L1 은 TTL 까지 이전 값 유지
+            log.warn("캐시 무효화 발행 실패: {}:{}", invalidation.cacheName(), invalidation.key(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body instanceof CacheInvalidation invalidation) {
+                listener.accept(invalidation);
+            }
+        }, topic);
+    }
+
+    private static String redisKey(String cacheName, Object key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,29 @@
+package com.problemio.global.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 공유 캐시 계층 (L2 저장소 + 무효화 메시지 채널)
+ * - 공유 대상 캐시(isShared)만 값을 저장하고, 무효화 메시지는 모든 캐시에 대해 전달
+ */
+public interface RemoteCacheTier {
+
+    boolean isShared(String cacheName);
+
+    /**
+     * L2 조회 (없으면 null)
+     */
+    Cache.ValueWrapper get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,127 @@
+package com.problemio.global.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1(Caffeine) + L2(공유 계층) 캐시
+ * - 조회: L1 -> (공유 캐시면) L2 -> 로더 순, 하위 계층에서 찾은 값은 L1 에 채움
+ * - 변경(evict/clear): L1, L2 에 반영 후 다른 인스턴스에 L1 무효화 메시지 발행
+ * - put: 공유 캐시만 L2 갱신 + 무효화 발행 (로컬 전용 캐시의 put 은 조회 결과 적재일 뿐이라 전파하지 않음)
+ * - 공유 캐시에 조회 결과를 적재할 때는 get(key, loader) 사용 (L2 에만 쓰고 무효화는 발행하지 않음)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache local;
+    private final RemoteCacheTier remote;
+    private final String origin;
+    private final boolean shared;
+
+    public TwoLevelCache(Cache local, RemoteCacheTier remote, String origin) {
+        this.local = local;
+        this.remote = remote;
+        this.origin = origin;
+        this.shared = remote.isShared(local.getName());
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null || !shared) {
+            return value;
+        }
+        value = remote.get(getName(), key);
+        if (value != null) {
+            local.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value != null ? value.get() : null;
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // L1 의 원자적 적재 안에서 L2 -> 로더 순으로 조회 (같은 키 동시 미스는 한 번만 적재)
+        return local.get(key, () -> {
+            if (shared) {
+                ValueWrapper remoteValue = remote.get(getName(), key);
+                if (remoteValue != null) {
+                    @SuppressWarnings("unchecked")
+                    T value = (T) remoteValue.get();
+                    return value;
+                }
+            }
+            T value = valueLoader.call();
+            if (shared && value != null) {
+                remote.put(getName(), key, value);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        if (!shared) {
+            return;
+        }
+        if (value != null) {
+            remote.put(getName(), key, value);
+        } else {
+            remote.evict(getName(), key);
+        }
+        remote.publish(new CacheInvalidation(origin, getName(), key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        if (shared) {
+            remote.evict(getName(), key);
+        }
+        remote.publish(new CacheInvalidation(origin, getName(), key));
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        if (shared) {
+            remote.clear(getName());
+        }
+        remote.publish(new CacheInvalidation(origin, getName(), null));
+    }
+
+    /**
+     * 다른 인스턴스의 변경 알림 수신: L1 만 비움 (L2 는 보낸 쪽이 이미 반영)
+     */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (origin.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            local.clear();
+        } else {
+            local.evict(invalidation.key());
+        }
+    }
+}
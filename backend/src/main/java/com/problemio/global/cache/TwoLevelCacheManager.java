@@ -0,0 +1,38 @@
+package com.problemio.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로컬 캐시들을 공유 계층과 묶는 CacheManager
+ * - 인스턴스마다 고유 origin 으로 자기 메시지는 무시
+ */
+public class TwoLevelCacheManager extends AbstractCacheManager {
+
+    private final List<? extends Cache> localCaches;
+    private final RemoteCacheTier remote;
+    private final String origin = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(List<? extends Cache> localCaches, RemoteCacheTier remote) {
+        this.localCaches = localCaches;
+        this.remote = remote;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<TwoLevelCache> caches = localCaches.stream()
+                .map(cache -> new TwoLevelCache(cache, remote, origin))
+                .toList();
+        remote.subscribe(invalidation -> {
+            Cache cache = lookupCache(invalidation.cacheName());
+            if (cache instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.onInvalidation(invalidation);
+            }
+        });
+        return caches;
+    }
+}
@@ -1,6 +1,14 @@
 package com.problemio.global.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.problemio.challenge.dto.LeaderboardSnapshot;
+import com.problemio.global.cache.CacheSpecProperties;
+import com.problemio.global.cache.CacheSpecProperties.Spec;
+import com.problemio.global.cache.RemoteCacheTier;
+import com.problemio.global.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -8,66 +16,85 @@ import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 캐시 등록 (크기/만료는 cache.specs.{cacheName} 로 조정, 모든 캐시 통계 기록)
+ */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
+    static final Duration LEADERBOARD_LIVE_TTL = Duration.ofSeconds(5);
+    static final Duration LEADERBOARD_FINALIZED_TTL = Duration.ofDays(1);
+
     @Bean
-    public CacheManager cacheManager() {
-        // ranking: 짧은 TTL로 자주 갱신
-        CaffeineCache rankingCache = new CaffeineCache(
-                "ranking",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(10, TimeUnit.SECONDS)
-                        .maximumSize(500)
-                        .build()
+    public CacheManager cacheManager(CacheSpecProperties properties,
+                                     ObjectProvider<RemoteCacheTier> remoteCacheTier) {
+        List<CaffeineCache> caches = List.of(
+                // ranking: 짧은 TTL로 자주 갱신
+                build(properties, "ranking", Spec.afterWrite(500, Duration.ofSeconds(10))),
+                // userDetails: 로그인 시 UserDetails 조회 캐시 (짧은 TTL로 최신성 확보)
+                build(properties, "userDetails", Spec.afterWrite(1_000, Duration.ofMinutes(5))),
+                // 퀴즈별 문제/정답 묶음: 제출/플레이/조회 반복 조회 최소화 (수정 시 커밋 후 재적재)
+                build(properties, "quizQuestions", Spec.afterAccess(2_000, Duration.ofMinutes(30))),
+                // 유저 프로필 캐시: 작성자 정보 반복 조회 최소화
+                build(properties, "userProfile", Spec.afterWrite(5_000, Duration.ofMinutes(10))),
+                // 퀴즈 목록 전체 개수 캐시: 검색어별 COUNT 반복 방지 (약간의 지연 허용)
+                build(properties, "quizCount", Spec.afterWrite(1_000, Duration.ofSeconds(30))),
+                // 채점 인덱스: 퀴즈별 정규화된 정답 집합 (퀴즈 수정 시 명시적으로 무효화)
+                build(properties, "compiledQuiz", Spec.afterAccess(1_000, Duration.ofMinutes(30))),
+                // 진행 중인 제출 상태: 누락 시 DB 에서 복원하므로 유실 허용
+                build(properties, "submissionState", Spec.afterAccess(10_000, Duration.ofMinutes(30))),
+                // 유저별 토큰 버전: stateless 인증에서 요청마다 확인 (비밀번호 변경/탈퇴 시 무효화)
+                build(properties, "tokenVersion", Spec.afterAccess(100_000, Duration.ofHours(1))),
+                // 챌린지 목록 + 대상 퀴즈 요약: 생성/확정 시 무효화, 다른 인스턴스 변경 대비 짧은 TTL
+                build(properties, "challenges", Spec.afterWrite(10, Duration.ofMinutes(1))),
+                // 챌린지 상위 랭킹: 진행 중엔 짧게 (상위권 변경 시 이벤트로 즉시 무효화), 확정 후엔 바뀌지 않으므로 길게
+                leaderboard(properties)
         );
 
-        // userDetails: 로그인 시 UserDetails 조회 캐시 (짧은 TTL로 최신성 확보)
-        CaffeineCache userDetailsCache = new CaffeineCache(
-                "userDetails",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(5, TimeUnit.MINUTES)
-                        .maximumSize(1_000)
-                        .build()
-        );
+        // 공유 계층이 있으면 Caffeine 을 L1 으로 두고 무효화를 인스턴스 간 전파
+        RemoteCacheTier remote = remoteCacheTier.getIfAvailable();
+        if (remote != null) {
+            return new TwoLevelCacheManager(caches, remote);
+        }
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
 
-        // quiz question/answer 캐시: 제출 시 반복 조회 최소화
-        CaffeineCache questionCache = new CaffeineCache(
-                "question",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(10, TimeUnit.MINUTES)
-                        .maximumSize(5_000)
-                        .build()
-        );
-        CaffeineCache questionAnswersCache = new CaffeineCache(
-                "questionAnswers",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(10, TimeUnit.MINUTES)
-                        .maximumSize(5_000)
-                        .build()
-        );
+    private static CaffeineCache build(CacheSpecProperties properties, String name, Spec defaults) {
+        Spec spec = properties.resolve(name, defaults);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .recordStats();
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return new CaffeineCache(name, builder.build());
+    }
 
-        // 유저 프로필 캐시: 작성자 정보 반복 조회 최소화
-        CaffeineCache userProfileCache = new CaffeineCache(
-                "userProfile",
+    /**
+     * 만료 시간은 확정 여부에 따라 정해지므로 크기만 설정으로 조정
+     */
+    private static CaffeineCache leaderboard(CacheSpecProperties properties) {
+        Spec spec = properties.resolve("leaderboard", Spec.afterWrite(1_000, null));
+        return new CaffeineCache(
+                "leaderboard",
                 Caffeine.newBuilder()
-                        .expireAfterWrite(10, TimeUnit.MINUTES)
-                        .maximumSize(5_000)
+                        .expireAfter(Expiry.creating((Object key, Object value) ->
+                                value instanceof LeaderboardSnapshot snapshot && snapshot.isFinalized()
+                                        ? LEADERBOARD_FINALIZED_TTL
+                                        : LEADERBOARD_LIVE_TTL))
+                        .maximumSize(spec.getMaximumSize())
+                        .recordStats()
                         .build()
         );
-
-        SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(List.of(
-                rankingCache,
-                userDetailsCache,
-                questionCache,
-                questionAnswersCache,
-                userProfileCache
-        ));
-        return cacheManager;
     }
 }
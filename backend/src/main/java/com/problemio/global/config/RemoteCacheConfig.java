@@ -0,0 +1,54 @@
+package com.problemio.global.config;
+
+import com.problemio.global.cache.RedisCacheTier;
+import com.problemio.global.cache.RemoteCacheTier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 다중 인스턴스용 공유 캐시 계층 (cache.remote.type=redis 일 때만 등록)
+ * - 미등록 시 CacheConfig 는 로컬 Caffeine 캐시만 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cache.remote", name = "type", havingValue = "redis")
+public class RemoteCacheConfig {
+
+    @Bean
+    public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(new JdkSerializationRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public RemoteCacheTier remoteCacheTier(
+            RedisTemplate<String, Object> cacheRedisTemplate,
+            RedisMessageListenerContainer cacheListenerContainer,
+            @Value("${cache.remote.channel:cache:invalidation}") String channel,
+            @Value("${cache.remote.shared-caches:userProfile}") Set<String> sharedCaches,
+            @Value("${cache.remote.ttl-seconds:600}") long ttlSeconds
+    ) {
+        return new RedisCacheTier(cacheRedisTemplate, cacheListenerContainer, channel, sharedCaches,
+                Duration.ofSeconds(ttlSeconds));
+    }
+}
@@ -1,7 +1,10 @@
 package com.problemio.global.config;
 
+import com.problemio.global.auth.BoundedPasswordEncoder;
+import com.problemio.global.auth.TokenVersionStore;
 import com.problemio.global.jwt.JwtAuthenticationFilter;
 import com.problemio.global.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -14,19 +17,29 @@ import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.cache.SpringCacheBasedUserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
 import java.util.Objects;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * BCrypt 는 전용 스레드풀에서만 실행 (password.hashing.*)
+     * - threads 0 이면 CPU 코어 수
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${password.hashing.strength:10}") int strength,
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${password.hashing.timeout:5s}") Duration timeout
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, timeout);
     }
 
     @Bean
@@ -58,9 +71,12 @@ public class SecurityConfig {
     public JwtAuthenticationFilter jwtAuthenticationFilter(
             JwtTokenProvider jwtTokenProvider,
             UserDetailsService userDetailsService,
-            UserCache userCache
+            UserCache userCache,
+            TokenVersionStore tokenVersionStore,
+            @Value("${jwt.stateless-principal:false}") boolean statelessPrincipal
     ) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userCache);
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userCache,
+                tokenVersionStore, statelessPrincipal);
     }
 
     @Bean
@@ -0,0 +1,37 @@
+package com.problemio.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+    private List<T> content;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+    private int size;
+
+    /**
+     * size + 1 건 조회한 결과로 응답 생성 (초과분이 있으면 마지막 항목 기준으로 다음 커서 발급)
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, nextCursor, hasNext, size);
+    }
+
+    /**
+     * 커서 정보는 유지한 채 목록만 변환
+     */
+    public <R> CursorResponse<R> map(Function<List<T>, List<R>> mapper) {
+        return new CursorResponse<>(mapper.apply(content), nextCursor, hasNext, size);
+    }
+}
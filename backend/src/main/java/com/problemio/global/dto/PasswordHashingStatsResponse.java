@@ -0,0 +1,17 @@
+package com.problemio.global.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PasswordHashingStatsResponse {
+    private String operation;       // encode / matches
+    private long count;             // 처리 완료 건수
+    private long rejectedCount;     // 대기열 초과/시간 초과로 거절된 건수 (429)
+    private double averageWaitMs;   // 대기열에서 기다린 평균 시간
+    private double averageHashMs;   // 해싱에 걸린 평균 시간
+    private double maxHashMs;
+    private int queued;             // 조회 시점 대기 중인 작업 수
+    private int active;             // 조회 시점 실행 중인 작업 수
+}
@@ -19,6 +19,10 @@ public class GlobalExceptionHandler {
             case ACCESS_DENIED -> ResponseEntity
                     .status(403)
                     .body(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage()));
+            // 비밀번호 해싱 대기열 포화 등 과부하
+            case TOO_MANY_REQUESTS -> ResponseEntity
+                    .status(429)
+                    .body(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage()));
             default -> ResponseEntity
                     .badRequest()
                     .body(ApiResponse.fail(errorCode.getCode(), errorCode.getMessage()));
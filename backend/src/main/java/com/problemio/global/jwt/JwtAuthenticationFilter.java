@@ -1,5 +1,7 @@
 package com.problemio.global.jwt;
 
+import com.problemio.global.auth.CustomUserDetails;
+import com.problemio.global.auth.TokenVersionStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -21,6 +24,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService; // 유저 정보 조회용 (구현 필요)
     private final UserCache userCache;
+    private final TokenVersionStore tokenVersionStore;
+    // true: uid/role/ver 클레임으로 principal 생성 (UserDetails 조회 생략)
+    private final boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -28,34 +34,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Request Header에서 토큰 추출
         String token = resolveToken(request);
 
-        // 토큰 유효성 검사
-        if (token != null
-                && jwtTokenProvider.validateToken(token)
-                && SecurityContextHolder.getContext().getAuthentication() == null) {
+        // 토큰 유효성 검사 (서명 검증과 클레임 추출을 한 번에)
+        Optional<TokenClaims> claims = token != null
+                ? jwtTokenProvider.verify(token)
+                : Optional.empty();
 
-            // 토큰에서 이메일 추출
-            String email = jwtTokenProvider.getEmail(token);
+        if (claims.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            // 캐시 → DB 순으로 UserDetails 조회
-            UserDetails cached = userCache.getUserFromCache(email);
-            UserDetails userDetails = cached != null
-                    ? cached
-                    : userDetailsService.loadUserByUsername(email);
-            if (cached == null) {
-                userCache.putUserInCache(userDetails);
-            }
+            UserDetails userDetails = statelessPrincipal && claims.get().isStateless()
+                    ? fromClaims(claims.get())
+                    : loadUserDetails(claims.get().subject());
 
-            // 스프링 시큐리티에 인증 정보 저장
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            // 스프링 시큐리티에 인증 정보 저장 (비밀번호 변경/탈퇴로 무효화된 토큰이면 익명으로 진행)
+            if (userDetails != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         // 다음 필터로 넘기기
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 클레임으로 principal 생성, 토큰 버전이 현재 버전과 다르면 null
+     */
+    private UserDetails fromClaims(TokenClaims claims) {
+        if (tokenVersionStore.current(claims.userId()) != claims.tokenVersion()) {
+            return null;
+        }
+        return CustomUserDetails.ofClaims(claims.userId(), claims.subject(), claims.role());
+    }
+
+    // 캐시 → DB 순으로 UserDetails 조회
+    private UserDetails loadUserDetails(String email) {
+        UserDetails cached = userCache.getUserFromCache(email);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        userCache.putUserInCache(userDetails);
+        return userDetails;
+    }
+
     // 헤더에서 "Bearer {토큰}" 꺼내오는 메서드
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -1,5 +1,6 @@
 package com.problemio.global.jwt;
 
+import com.problemio.user.domain.User;
 import io.jsonwebtoken.*;
 
 import io.jsonwebtoken.io.Decoders;
@@ -10,61 +11,72 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey; // Key 대신 SecretKey 사용 권장
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final SecretKey key;
     private final long accessTokenValidityInMilliseconds;
+    // 파서는 스레드 안전하므로 한 번만 생성해서 재사용
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
-                            @Value("${jwt.expiration}") long validityInMilliseconds) {
+                            @Value("${jwt.expiration}") long validityInMilliseconds,
+                            VerifiedTokenCache verifiedTokenCache) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.accessTokenValidityInMilliseconds = validityInMilliseconds;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
-    // Access Token 생성 (만료시간: 1시간)
-    public String createAccessToken(String email) {
-        return createToken(email, this.accessTokenValidityInMilliseconds);
-    }
-
-    // Refresh Token 생성 (만료시간: 2주 고정)
-    public String createRefreshToken(String email) {
-        
-        long refreshTokenValidity = 14L * 24 * 60 * 60 * 1000; // 2주
-        return createToken(email, refreshTokenValidity);
-    }
-
-
-    // 토큰 생성
-    private String createToken(String email, long validityMs) {
-        long now = (new Date()).getTime();
-        Date validity = new Date(now + validityMs);
-
+    // Access Token 생성 (만료시간: 1시간, 유저 ID/권한/토큰 버전 포함 → stateless 인증 가능)
+    public String createAccessToken(User user) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .subject(email)           // 토큰 제목 (유저 이메일)
-                .issuedAt(new Date())     // 생성 시간
-                .expiration(validity)     // 만료 시간
-                .signWith(key)            // 암호화 서명
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessTokenValidityInMilliseconds))
+                .signWith(key)
                 .compact();
     }
 
+    /**
+     * Access Token 검증 (요청마다 호출되는 경로)
+     * - 서명 검증은 토큰당 한 번, 최근 검증한 토큰은 캐시에서 바로 반환
+     * - 유효하지 않으면 empty
+     */
+    public Optional<TokenClaims> verify(String token) {
+        long now = System.currentTimeMillis();
+        TokenClaims cached = verifiedTokenCache.get(token, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-    // 토큰에서 이메일(Subject) 추출
-    public String getEmail(String token) {
-        return parseClaims(token).getSubject();
+        Optional<TokenClaims> claims = parse(token);
+        claims.ifPresent(c -> verifiedTokenCache.put(token, c));
+        return claims;
     }
 
-    // 토큰 유효성 검증
-    public boolean validateToken(String token) {
+    private Optional<TokenClaims> parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return Optional.of(new TokenClaims(
+                    claims.getSubject(),
+                    claims.getExpiration().getTime(),
+                    claims.get(CLAIM_USER_ID, Long.class),
+                    claims.get(CLAIM_ROLE, String.class),
+                    claims.get(CLAIM_TOKEN_VERSION, Integer.class)));
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -74,18 +86,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
-    }
-
-    private Claims parseClaims(String accessToken) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
-        }
+        return Optional.empty();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.problemio.global.jwt;
+
+/**
+ * 서명 검증을 통과한 토큰에서 꺼낸 값
+ *
+ * @param subject         토큰 subject (유저 이메일)
+ * @param expiresAtMillis 만료 시각 (epoch ms)
+ * @param userId          유저 ID (uid 클레임, 이전 형식 토큰이면 null)
+ * @param role            권한 (role 클레임)
+ * @param tokenVersion    발급 시점의 토큰 버전 (ver 클레임)
+ */
+public record TokenClaims(String subject, long expiresAtMillis, Long userId, String role, Integer tokenVersion) {
+
+    public TokenClaims(String subject, long expiresAtMillis) {
+        this(subject, expiresAtMillis, null, null, null);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * DB 조회 없이 principal 을 만들 수 있는 토큰인지
+     */
+    public boolean isStateless() {
+        return userId != null && tokenVersion != null;
+    }
+}
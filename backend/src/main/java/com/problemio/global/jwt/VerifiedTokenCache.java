@@ -0,0 +1,73 @@
+package com.problemio.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.problemio.global.cache.CacheSpecProperties;
+import com.problemio.global.cache.CacheSpecProperties.Spec;
+import com.problemio.global.cache.InstrumentedCache;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 최근에 서명 검증을 마친 Access Token 캐시
+ * - 같은 토큰이 짧은 시간에 반복해서 들어오므로 HMAC 검증을 다시 하지 않음
+ * - 키는 토큰 원문 대신 SHA-256 해시, 값의 만료 시각은 조회 시 다시 확인
+ */
+@Component
+public class VerifiedTokenCache implements InstrumentedCache {
+
+    private final Cache<String, TokenClaims> cache;
+
+    public VerifiedTokenCache(CacheSpecProperties properties) {
+        Spec spec = properties.resolve(getCacheName(), Spec.afterWrite(10_000, Duration.ofMinutes(5)));
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .maximumSize(spec.getMaximumSize())
+                .recordStats()
+                .build();
+    }
+
+    public TokenClaims get(String token, long nowMillis) {
+        String key = hash(token);
+        TokenClaims claims = cache.getIfPresent(key);
+        if (claims != null && claims.isExpired(nowMillis)) {
+            cache.invalidate(key);
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String token, TokenClaims claims) {
+        cache.put(hash(token), claims);
+    }
+
+    @Override
+    public String getCacheName() {
+        return "verifiedToken";
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
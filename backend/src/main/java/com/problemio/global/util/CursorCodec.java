@@ -0,0 +1,65 @@
+package com.problemio.global.util;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋 페이지네이션용 불투명 커서 인코더
+ * - 정렬 키 값들과 id 를 구분자로 이어 Base64(URL-safe) 로 감싼다
+ */
+public class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 복원 (형식이 맞지 않으면 잘못된 입력으로 처리)
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * (시각, id) 형태의 커서 - 최신순 목록(피드, 좋아요, 댓글) 공용
+     */
+    public record TimeKey(LocalDateTime at, long id) {
+
+        public String encode() {
+            return CursorCodec.encode(at, id);
+        }
+
+        public static TimeKey decode(String cursor) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                return new TimeKey(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.problemio.quiz.catalog;
+
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.mapper.QuestionAnswerMapper;
+import com.problemio.quiz.mapper.QuestionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 퀴즈별 문제/정답 조회 창구 ("quizQuestions" 캐시)
+ * - 캐시 미스 시 퀴즈 단위로 문제 + 정답을 한 번에 적재 (쿼리 2회)
+ * - 퀴즈 수정 시 커밋 후 다른 인스턴스에 무효화를 전파하고, 이 인스턴스는 다시 적재해 다음 요청이 미스 없이 새 데이터를 사용 (refresh-ahead)
+ * - 적중/미스/적재 시간은 Caffeine 통계로 집계 (GET /api/admin/caches)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionCatalog {
+
+    private static final String CACHE_NAME = "quizQuestions";
+
+    private final CacheManager cacheManager;
+    private final QuestionMapper questionMapper;
+    private final QuestionAnswerMapper questionAnswerMapper;
+
+    public QuizQuestions get(Long quizId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return read(quizId);
+        }
+        return cache.get(quizId, () -> read(quizId));
+    }
+
+    /**
+     * 캐시를 거치지 않고 현재 트랜잭션 기준으로 조회 (수정 직후 응답 생성용)
+     */
+    public QuizQuestions read(Long quizId) {
+        List<Question> questions = questionMapper.findByQuizId(quizId);
+        return new QuizQuestions(
+                quizId,
+                questions,
+                questions.isEmpty() ? List.of() : questionAnswerMapper.findByQuizId(quizId)
+        );
+    }
+
+    /**
+     * 문제/정답 변경 반영: 즉시 제거 후 커밋되면 새로 적재
+     * - 커밋 후 제거를 한 번 더 전파해 그사이 다른 인스턴스가 적재한 이전 값 정리 (put 은 전파되지 않음)
+     */
+    public void refresh(Long quizId) {
+        evictNow(quizId);
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache == null) {
+                return;
+            }
+            cache.evict(quizId);
+            try {
+                cache.put(quizId, read(quizId));
+            } catch (RuntimeException e) {
+                // 적재 실패 시 다음 조회에서 다시 적재
+                log.warn("문제 캐시 갱신 실패: quizId={}", quizId, e);
+                cache.evict(quizId);
+            }
+        });
+    }
+
+    /**
+     * 퀴즈 삭제 반영: 즉시 + 커밋 후 제거 (커밋 전 다른 요청이 다시 적재한 값 정리)
+     */
+    public void evict(Long quizId) {
+        evictNow(quizId);
+        afterCommit(() -> evictNow(quizId));
+    }
+
+    private void evictNow(Long quizId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(quizId);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
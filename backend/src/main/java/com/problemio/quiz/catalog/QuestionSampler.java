@@ -0,0 +1,45 @@
+package com.problemio.quiz.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 캐시된 문제 목록에서 무작위 추출 (부분 Fisher-Yates)
+ * - DB 정렬(ORDER BY RAND()) 없이 뽑을 개수만큼만 교환
+ * - 같은 seed 면 같은 순서 (세션 재현용)
+ */
+public final class QuestionSampler {
+
+    private QuestionSampler() {
+    }
+
+    public static <T> List<T> sample(List<T> items, int limit) {
+        return sample(items, limit, ThreadLocalRandom.current());
+    }
+
+    public static <T> List<T> sample(List<T> items, int limit, long seed) {
+        return sample(items, limit, new SplittableRandom(seed));
+    }
+
+    static <T> List<T> sample(List<T> items, int limit, RandomGenerator random) {
+        int n = items.size();
+        int k = Math.min(Math.max(limit, 0), n);
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+
+        List<T> picked = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int tmp = index[i];
+            index[i] = index[j];
+            index[j] = tmp;
+            picked.add(items.get(index[i]));
+        }
+        return picked;
+    }
+}
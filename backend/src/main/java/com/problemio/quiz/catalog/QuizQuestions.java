@@ -0,0 +1,45 @@
+package com.problemio.quiz.catalog;
+
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈 한 개의 문제/정답 묶음 ("quizQuestions" 캐시 값)
+ * - 여러 요청이 공유하므로 읽기 전용으로만 사용
+ */
+@Getter
+public class QuizQuestions {
+
+    private final Long quizId;
+    private final List<Question> questions; // question_order 순
+    private final List<QuestionAnswer> answers;
+    private final Map<Long, List<QuestionAnswer>> answersByQuestion; // sort_order 순
+
+    public QuizQuestions(Long quizId, List<Question> questions, List<QuestionAnswer> answers) {
+        this.quizId = quizId;
+        this.questions = List.copyOf(questions);
+        this.answers = List.copyOf(answers);
+        this.answersByQuestion = answers.stream()
+                .sorted(Comparator.comparingInt(QuestionAnswer::getSortOrder))
+                .collect(Collectors.groupingBy(QuestionAnswer::getQuestionId,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+    }
+
+    public List<QuestionAnswer> answersOf(Long questionId) {
+        return answersByQuestion.getOrDefault(questionId, List.of());
+    }
+
+    public int size() {
+        return questions.size();
+    }
+
+    public boolean isEmpty() {
+        return questions.isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package com.problemio.quiz.controller;
 
 import com.problemio.global.auth.CustomUserDetails;
 import com.problemio.global.common.ApiResponse;
+import com.problemio.global.dto.CursorResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.dto.QuizCreateRequest;
@@ -53,6 +54,23 @@ public class QuizController {
         );
     }
 
+    /**
+     * 퀴즈 목록 커서 조회 (무한 스크롤)
+     * - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor 전달
+     * - 전체 개수/페이지 수는 제공하지 않음
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<QuizSummaryDto>>> scrollQuizzes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String keyword
+    ) {
+        return ResponseEntity.ok(
+                ApiResponse.success(quizService.scrollQuizzes(sort, keyword, cursor, size))
+        );
+    }
+
     /**
      * 퀴즈 생성
      */
@@ -176,17 +194,18 @@ public class QuizController {
     }
 
     /**
-     * 퀴즈 문제 조회 (랜덤 순서, 개수 제한)
+     * 퀴즈 문제 조회 (랜덤 순서, 개수 제한, seed 지정 시 같은 순서)
      */
     @GetMapping("/{quizId}/questions")
     public ResponseEntity<ApiResponse<List<QuestionResponse>>> getQuizQuestions(
             @PathVariable Long quizId,
             @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long seed,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long viewerId = userDetails != null ? userDetails.getUser().getId() : null;
         return ResponseEntity.ok(
-                ApiResponse.success(quizService.getQuizQuestions(quizId, viewerId, limit))
+                ApiResponse.success(quizService.getQuizQuestions(quizId, viewerId, limit, seed))
         );
     }
 
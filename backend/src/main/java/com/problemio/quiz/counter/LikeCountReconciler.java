@@ -0,0 +1,39 @@
+package com.problemio.quiz.counter;
+
+import com.problemio.quiz.mapper.QuizMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * quizzes.like_count 보정 작업
+ * - 목록 조회는 like_count 컬럼만 읽으므로, 좋아요/취소/탈퇴 경로에서 어긋난 값을 주기적으로 복구
+ * - id 구간 단위로 나눠서 갱신해 한 번에 긴 락을 잡지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+
+    private final QuizMapper quizMapper;
+
+    @Value("${quiz.like-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${quiz.like-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long maxId = quizMapper.findMaxId();
+        int step = Math.max(batchSize, 1);
+        int repaired = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += step) {
+            repaired += quizMapper.reconcileLikeCounts(fromId, fromId + step - 1);
+        }
+
+        if (repaired > 0) {
+            log.info("[LikeCount] repaired like_count drift on {} quizzes", repaired);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.problemio.quiz.counter;
+
+import com.problemio.quiz.mapper.QuizMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 퀴즈 조회수 write-behind 집계기
+ * - 조회 시에는 메모리(LongAdder)에만 누적하고, 주기적으로 모아서 한 번에 DB 반영
+ * - 비정상 종료 시 최대 flush 주기만큼의 조회수가 유실될 수 있음 (정상 종료 시 drain)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayCountAggregator {
+
+    // UPDATE ... CASE 한 문장에 담을 최대 퀴즈 수
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final QuizMapper quizMapper;
+
+    // 퀴즈 ID별 아직 DB에 반영되지 않은 조회수 증분
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // flush 중(DB 반영 전)인 증분: 반영 도중에도 조회수가 줄어 보이지 않도록 유지
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     *
+     * @return DB에 아직 반영되지 않은 해당 퀴즈의 누적 증분
+     */
+    public long increment(Long quizId) {
+        pending.computeIfAbsent(quizId, id -> new LongAdder()).increment();
+        return pendingDelta(quizId);
+    }
+
+    /**
+     * DB 값에 더해야 하는 미반영 증분
+     */
+    public long pendingDelta(Long quizId) {
+        LongAdder adder = pending.get(quizId);
+        long buffered = adder != null ? adder.sum() : 0L;
+        return buffered + inFlight.getOrDefault(quizId, 0L);
+    }
+
+    /**
+     * 삭제된 퀴즈의 미반영 증분 폐기
+     */
+    public void discard(Long quizId) {
+        pending.remove(quizId);
+    }
+
+    /**
+     * 누적된 증분을 묶어서 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${quiz.play-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        pending.forEach((quizId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(quizId, delta);
+                inFlight.put(quizId, delta);
+            } else if (pending.remove(quizId, adder)) {
+                // 지난 주기 이후 조회가 없으면 키 제거 (다음 조회 시 computeIfAbsent 로 다시 생성)
+                // 제거 직전에 들어온 증분은 새 LongAdder 로 옮김
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    pending.computeIfAbsent(quizId, id -> new LongAdder()).add(late);
+                }
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Long> quizIds = new ArrayList<>(deltas.keySet());
+        for (int from = 0; from < quizIds.size(); from += FLUSH_CHUNK_SIZE) {
+            Map<Long, Long> chunk = new LinkedHashMap<>();
+            for (Long quizId : quizIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, quizIds.size()))) {
+                chunk.put(quizId, deltas.get(quizId));
+            }
+            try {
+                quizMapper.addPlayCounts(chunk);
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 다시 시도하도록 증분 복원
+                log.warn("[PlayCount] flush failed for {} quizzes, will retry", chunk.size(), e);
+                chunk.forEach((quizId, delta) -> pending.computeIfAbsent(quizId, id -> new LongAdder()).add(delta));
+            } finally {
+                chunk.keySet().forEach(inFlight::remove);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
@@ -17,6 +17,7 @@ public class Quiz {
     private boolean isPublic;
     private int likeCount;
     private int playCount;
+    private int commentCount; // 삭제되지 않은 댓글 + 대댓글 수 (집계 컬럼)
     private boolean isHidden;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
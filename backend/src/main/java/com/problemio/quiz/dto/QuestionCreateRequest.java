@@ -11,6 +11,9 @@ import java.util.List;
 @Setter
 public class QuestionCreateRequest {
 
+    // 수정 시 기존 질문 ID (없으면 순서로 기존 질문과 매칭)
+    private Long id;
+
     @JsonAlias("order")
     private Integer questionOrder;
 
@@ -0,0 +1,56 @@
+package com.problemio.quiz.dto;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.CursorCodec;
+import com.problemio.quiz.domain.Quiz;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 퀴즈 목록 키셋 커서
+ * - latest: (created_at, id), popular: (like_count, play_count, id), views: (play_count, like_count, id)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class QuizCursor {
+
+    private final String sort;
+    private final LocalDateTime createdAt;
+    private final int likeCount;
+    private final int playCount;
+    private final long id;
+
+    public static QuizCursor of(String sort, Quiz quiz) {
+        return new QuizCursor(sort, quiz.getCreatedAt(), quiz.getLikeCount(), quiz.getPlayCount(), quiz.getId());
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sort, createdAt, likeCount, playCount, id);
+    }
+
+    /**
+     * 커서 복원: 다른 정렬로 발급된 커서는 거부
+     */
+    public static QuizCursor decode(String sort, String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 5);
+        if (!parts[0].equals(sort)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        try {
+            return new QuizCursor(
+                    sort,
+                    LocalDateTime.parse(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3]),
+                    Long.parseLong(parts[4])
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.*;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.problemio.global.config.S3UrlSerializer;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,5 +26,7 @@ public class QuizSummaryDto {
     private int playCount;
     private Integer commentCount;
     private boolean hidden;
+    private LocalDateTime createdAt;
+    private LocalDateTime likedAt; // 좋아요 목록에서만 사용
 
 }
@@ -9,13 +9,14 @@ import java.util.List;
 @Mapper
 public interface QuestionAnswerMapper {
 
-    void insertAnswer(QuestionAnswer answer);
+    void insertAnswers(@Param("answers") List<QuestionAnswer> answers);
 
-    void deleteByQuestionId(@Param("questionId") Long questionId);
+    void deleteByQuestionIds(@Param("questionIds") List<Long> questionIds);
+
+    void deleteByQuizId(@Param("quizId") Long quizId);
 
     List<QuestionAnswer> findByQuestionId(@Param("questionId") Long questionId);
 
-    List<QuestionAnswer> findByQuestionIds(@Param("questionIds") List<Long> questionIds);
 
     List<QuestionAnswer> findByQuizId(@Param("quizId") Long quizId);
 }
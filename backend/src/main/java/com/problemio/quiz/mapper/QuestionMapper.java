@@ -10,17 +10,20 @@ import java.util.Optional;
 @Mapper
 public interface QuestionMapper {
 
-    void insertQuestion(Question question);
+    // 다건 INSERT 후 각 Question 의 id 채움
+    void insertQuestions(@Param("questions") List<Question> questions);
 
     void updateQuestion(Question question);
 
+    void updateQuestions(@Param("questions") List<Question> questions);
+
+    void deleteByIds(@Param("ids") List<Long> ids);
+
     void deleteQuestion(@Param("id") Long id);
 
     Optional<Question> findById(@Param("id") Long id);
 
     List<Question> findByQuizId(@Param("quizId") Long quizId);
 
-    List<Question> findRandomByQuizId(@Param("quizId") Long quizId, @Param("limit") int limit);
-
     void deleteByQuizId(@Param("quizId") Long quizId);
 }
@@ -9,9 +9,11 @@ import java.util.Optional;
 @Mapper
 public interface QuizLikeMapper {
 
-    void insertQuizLike(QuizLike quizLike);
+    // 이미 좋아요한 경우 무시, 실제 추가된 행 수 반환
+    int insertQuizLike(QuizLike quizLike);
 
-    void deleteQuizLike(@Param("userId") Long userId, @Param("quizId") Long quizId);
+    // 실제 삭제된 행 수 반환
+    int deleteQuizLike(@Param("userId") Long userId, @Param("quizId") Long quizId);
 
     void deleteByQuizId(@Param("quizId") Long quizId);
 
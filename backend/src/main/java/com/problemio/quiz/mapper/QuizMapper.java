@@ -1,11 +1,14 @@
 package com.problemio.quiz.mapper;
 
 import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCursor;
 import com.problemio.quiz.dto.QuizSummaryDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
@@ -23,19 +26,44 @@ public interface QuizMapper {
 
     List<Quiz> findQuizzesByUserId(@Param("userId") Long userId);
 
-    void incrementPlayCount(@Param("id") Long id);
+    // 조회수 증분 일괄 반영 (key: 퀴즈 ID, value: 증분)
+    void addPlayCounts(@Param("deltas") Map<Long, Long> deltas);
 
+    // fulltextQuery 가 있으면 FULLTEXT 인덱스, 없으면 keyword LIKE 조건으로 검색
     List<Quiz> searchQuizzes(@Param("offset") int offset,
                              @Param("size") int size,
                              @Param("sort") String sort,
-                             @Param("keyword") String keyword);
+                             @Param("keyword") String keyword,
+                             @Param("fulltextQuery") String fulltextQuery);
 
-    int countQuizzes(@Param("keyword") String keyword);
+    int countQuizzes(@Param("keyword") String keyword,
+                     @Param("fulltextQuery") String fulltextQuery);
+
+    // 커서 기반 공개 목록 (cursor 가 null 이면 첫 페이지)
+    List<Quiz> scrollQuizzes(@Param("sort") String sort,
+                             @Param("keyword") String keyword,
+                             @Param("cursor") QuizCursor cursor,
+                             @Param("limit") int limit,
+                             @Param("fulltextQuery") String fulltextQuery);
 
     void incrementLikeCount(@Param("id") Long id);
 
     void decrementLikeCount(@Param("id") Long id);
 
+    void decrementLikeCounts(@Param("ids") List<Long> ids);
+
+    long findMaxId();
+
+    // [fromId, toId] 구간의 like_count를 실제 좋아요 수로 보정, 보정된 행 수 반환
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    void incrementCommentCount(@Param("id") Long id);
+
+    void decrementCommentCount(@Param("id") Long id);
+
+    // [fromId, toId] 구간의 comment_count를 실제 댓글 수로 보정, 보정된 행 수 반환
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
     // 퀴즈 작성자만 조회: 자기 퀴즈에 좋아요 못하게 막기 위함
     Long findUserIdByQuizId(@Param("id") Long id);
 
@@ -54,6 +82,21 @@ public interface QuizMapper {
             @Param("limit") int limit
     );
 
+    // 커서 기반 팔로잉 피드 / 좋아요 목록 (cursorAt 이 null 이면 첫 페이지)
+    List<QuizSummaryDto> scrollQuizzesOfFollowings(
+            @Param("userId") Long userId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    List<QuizSummaryDto> scrollLikedQuizzesByUser(
+            @Param("userId") Long userId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
     // 관리자용 퀴즈 조회
     List<Quiz> findAdminQuizzes(
             @Param("offset") int offset,
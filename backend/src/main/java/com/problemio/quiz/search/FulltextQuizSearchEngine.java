@@ -0,0 +1,68 @@
+package com.problemio.quiz.search;
+
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCursor;
+import com.problemio.quiz.mapper.QuizMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 검색
+ * - 검색어를 공백 단위로 나눠 모든 단어를 포함하는 BOOLEAN MODE 질의로 변환
+ * - ngram 크기보다 짧은 단어가 있으면 인덱스로 찾을 수 없으므로 LIKE 조건으로 대체
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.search.engine", havingValue = "fulltext", matchIfMissing = true)
+public class FulltextQuizSearchEngine implements QuizSearchEngine {
+
+    private final QuizMapper quizMapper;
+    private final int ngramSize;
+
+    public FulltextQuizSearchEngine(QuizMapper quizMapper,
+                                    @Value("${quiz.search.ngram-size:2}") int ngramSize) {
+        this.quizMapper = quizMapper;
+        this.ngramSize = ngramSize;
+    }
+
+    @Override
+    public List<Quiz> search(int offset, int size, String sort, String keyword) {
+        return quizMapper.searchQuizzes(offset, size, sort, keyword, toBooleanQuery(keyword, ngramSize));
+    }
+
+    @Override
+    public int count(String keyword) {
+        return quizMapper.countQuizzes(keyword, toBooleanQuery(keyword, ngramSize));
+    }
+
+    @Override
+    public List<Quiz> scroll(String sort, String keyword, QuizCursor cursor, int limit) {
+        return quizMapper.scrollQuizzes(sort, keyword, cursor, limit, toBooleanQuery(keyword, ngramSize));
+    }
+
+    /**
+     * 검색어 -> BOOLEAN MODE 질의 (예: "자바 퀴즈" -> +"자바" +"퀴즈")
+     * 변환할 수 없으면 null 반환 (LIKE 조건 사용)
+     */
+    static String toBooleanQuery(String keyword, int ngramSize) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        // 따옴표는 구문 검색 구분자이므로 제거
+        List<String> terms = Arrays.stream(keyword.replace("\"", " ").trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+        if (terms.isEmpty() || terms.stream().anyMatch(term -> term.codePointCount(0, term.length()) < ngramSize)) {
+            return null;
+        }
+
+        return terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+}
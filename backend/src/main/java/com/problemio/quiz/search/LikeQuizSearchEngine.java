@@ -0,0 +1,36 @@
+package com.problemio.quiz.search;
+
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCursor;
+import com.problemio.quiz.mapper.QuizMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * LIKE '%keyword%' 기반 검색 (FULLTEXT 인덱스가 없는 환경용)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "quiz.search.engine", havingValue = "like")
+public class LikeQuizSearchEngine implements QuizSearchEngine {
+
+    private final QuizMapper quizMapper;
+
+    @Override
+    public List<Quiz> search(int offset, int size, String sort, String keyword) {
+        return quizMapper.searchQuizzes(offset, size, sort, keyword, null);
+    }
+
+    @Override
+    public int count(String keyword) {
+        return quizMapper.countQuizzes(keyword, null);
+    }
+
+    @Override
+    public List<Quiz> scroll(String sort, String keyword, QuizCursor cursor, int limit) {
+        return quizMapper.scrollQuizzes(sort, keyword, cursor, limit, null);
+    }
+}
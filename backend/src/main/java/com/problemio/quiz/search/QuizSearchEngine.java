@@ -0,0 +1,28 @@
+package com.problemio.quiz.search;
+
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.dto.QuizCursor;
+
+import java.util.List;
+
+/**
+ * 공개 퀴즈 키워드 검색 엔진
+ * - quiz.search.engine 설정으로 구현 선택 (fulltext | like)
+ */
+public interface QuizSearchEngine {
+
+    /**
+     * 페이지 기반 검색 (keyword 가 비어 있으면 전체 목록)
+     */
+    List<Quiz> search(int offset, int size, String sort, String keyword);
+
+    /**
+     * 검색 결과 전체 개수
+     */
+    int count(String keyword);
+
+    /**
+     * 커서 기반 검색 (cursor 가 null 이면 첫 페이지)
+     */
+    List<Quiz> scroll(String sort, String keyword, QuizCursor cursor, int limit);
+}
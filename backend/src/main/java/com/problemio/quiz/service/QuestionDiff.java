@@ -0,0 +1,167 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+import com.problemio.quiz.dto.AnswerCreateRequest;
+import com.problemio.quiz.dto.QuestionCreateRequest;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 퀴즈 수정 시 기존 질문/정답과 요청을 비교한 변경분
+ * - 요청의 id, 없으면 문제 순서로 기존 질문과 매칭 (매칭된 질문은 id 유지)
+ * - 매칭되지 않은 기존 질문은 삭제, 매칭되지 않은 요청은 신규 저장
+ */
+@Getter
+class QuestionDiff {
+
+    // 신규 질문과 해당 요청 (같은 인덱스)
+    private final List<Question> inserts = new ArrayList<>();
+    private final List<QuestionCreateRequest> insertRequests = new ArrayList<>();
+    // 내용(순서/이미지/설명)이 바뀐 기존 질문
+    private final List<Question> updates = new ArrayList<>();
+    // 삭제할 기존 질문 id
+    private final List<Long> deletedIds = new ArrayList<>();
+    // 정답 목록이 바뀐 기존 질문 id 와 교체할 정답
+    private final List<Long> answerReplacedIds = new ArrayList<>();
+    private final List<QuestionAnswer> replacementAnswers = new ArrayList<>();
+
+    private QuestionDiff() {
+    }
+
+    static QuestionDiff compute(Long quizId,
+                                List<Question> existing,
+                                Map<Long, List<QuestionAnswer>> existingAnswers,
+                                List<QuestionCreateRequest> requests,
+                                LocalDateTime now) {
+        QuestionDiff diff = new QuestionDiff();
+
+        Map<Long, Question> unmatched = new LinkedHashMap<>();
+        existing.forEach(q -> unmatched.put(q.getId(), q));
+
+        // 1차: id 매칭
+        Question[] matched = new Question[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            Long id = requests.get(i).getId();
+            if (id != null && unmatched.containsKey(id)) {
+                matched[i] = unmatched.remove(id);
+            }
+        }
+
+        // 2차: id 가 없는 요청은 같은 순서의 기존 질문과 매칭
+        for (int i = 0; i < requests.size(); i++) {
+            if (matched[i] != null || requests.get(i).getId() != null) {
+                continue;
+            }
+            int order = orderOf(requests.get(i), i);
+            for (Question candidate : unmatched.values()) {
+                if (candidate.getQuestionOrder() == order) {
+                    matched[i] = unmatched.remove(candidate.getId());
+                    break;
+                }
+            }
+        }
+
+        for (int i = 0; i < requests.size(); i++) {
+            QuestionCreateRequest request = requests.get(i);
+            Question current = matched[i];
+
+            if (current == null) {
+                Question question = new Question();
+                question.setQuizId(quizId);
+                question.setQuestionOrder(orderOf(request, i));
+                question.setImageUrl(request.getImageUrl());
+                question.setDescription(request.getDescription());
+                question.setCreatedAt(now);
+                diff.inserts.add(question);
+                diff.insertRequests.add(request);
+                continue;
+            }
+
+            if (current.getQuestionOrder() != orderOf(request, i)
+                    || !Objects.equals(current.getImageUrl(), request.getImageUrl())
+                    || !Objects.equals(current.getDescription(), request.getDescription())) {
+                Question changed = new Question();
+                changed.setId(current.getId());
+                changed.setQuizId(quizId);
+                changed.setQuestionOrder(orderOf(request, i));
+                changed.setImageUrl(request.getImageUrl());
+                changed.setDescription(request.getDescription());
+                changed.setCreatedAt(current.getCreatedAt());
+                diff.updates.add(changed);
+            }
+
+            List<QuestionAnswer> answers = toAnswers(current.getId(), request.getAnswers());
+            if (!sameAnswers(existingAnswers.getOrDefault(current.getId(), List.of()), answers)) {
+                diff.answerReplacedIds.add(current.getId());
+                diff.replacementAnswers.addAll(answers);
+            }
+        }
+
+        diff.deletedIds.addAll(unmatched.keySet());
+        return diff;
+    }
+
+    /**
+     * 정답 요청 -> 엔티티 (빈 정답 제외, 정렬 순서 미지정 시 인덱스 사용)
+     */
+    static List<QuestionAnswer> toAnswers(Long questionId, List<AnswerCreateRequest> answers) {
+        if (answers == null || answers.isEmpty()) {
+            return List.of();
+        }
+
+        List<QuestionAnswer> result = new ArrayList<>(answers.size());
+        int idx = 1;
+        for (AnswerCreateRequest answerRequest : answers) {
+            if (answerRequest.getAnswerText() == null || answerRequest.getAnswerText().isBlank()) {
+                continue;
+            }
+
+            QuestionAnswer answer = new QuestionAnswer();
+            answer.setQuestionId(questionId);
+            answer.setAnswerText(answerRequest.getAnswerText());
+            answer.setSortOrder(answerRequest.getSortOrder() != null ? answerRequest.getSortOrder() : idx);
+            result.add(answer);
+            idx++;
+        }
+        return result;
+    }
+
+    // 반영할 변경이 있는지 (없으면 캐시 갱신 생략)
+    boolean hasChanges() {
+        return !deletedIds.isEmpty() || !updates.isEmpty() || !inserts.isEmpty() || !answerReplacedIds.isEmpty();
+    }
+
+    private static int orderOf(QuestionCreateRequest request, int index) {
+        return request.getQuestionOrder() != null ? request.getQuestionOrder() : index + 1;
+    }
+
+    private static boolean sameAnswers(List<QuestionAnswer> existing, List<QuestionAnswer> requested) {
+        if (existing.size() != requested.size()) {
+            return false;
+        }
+        List<QuestionAnswer> before = sortedByOrder(existing);
+        List<QuestionAnswer> after = sortedByOrder(requested);
+        for (int i = 0; i < before.size(); i++) {
+            QuestionAnswer a = before.get(i);
+            QuestionAnswer b = after.get(i);
+            if (a.getSortOrder() != b.getSortOrder() || !Objects.equals(a.getAnswerText(), b.getAnswerText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<QuestionAnswer> sortedByOrder(List<QuestionAnswer> answers) {
+        List<QuestionAnswer> sorted = new ArrayList<>(answers);
+        sorted.sort(Comparator.comparingInt(QuestionAnswer::getSortOrder));
+        return sorted;
+    }
+}
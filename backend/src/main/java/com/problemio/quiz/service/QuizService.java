@@ -1,5 +1,6 @@
 package com.problemio.quiz.service;
 
+import com.problemio.global.dto.CursorResponse;
 import com.problemio.quiz.dto.*;
 
 import java.util.Map;
@@ -9,6 +10,9 @@ public interface QuizService {
 
     Map<String, Object> getQuizzes(int page, int size, String sort, String keyword);
 
+    // 무한 스크롤용 커서 기반 목록 (전체 개수 미조회)
+    CursorResponse<QuizSummaryDto> scrollQuizzes(String sort, String keyword, String cursor, int size);
+
     QuizResponse createQuiz(Long userId, QuizCreateRequest request);
 
     QuizResponse updateQuiz(Long userId, Long quizId, QuizUpdateRequest request);
@@ -29,5 +33,9 @@ public interface QuizService {
 
     List<QuizSummaryDto> getLikedQuizzes(Long userId, int page, int size);
 
-    List<QuestionResponse> getQuizQuestions(Long quizId, Long viewerId, Integer limit);
+    CursorResponse<QuizSummaryDto> scrollQuizzesOfFollowings(Long userId, String cursor, int size);
+
+    CursorResponse<QuizSummaryDto> scrollLikedQuizzes(Long userId, String cursor, int size);
+
+    List<QuestionResponse> getQuizQuestions(Long quizId, Long viewerId, Integer limit, Long seed);
 }
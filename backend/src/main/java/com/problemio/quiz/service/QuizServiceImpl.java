@@ -1,11 +1,15 @@
 package com.problemio.quiz.service;
 
 import com.problemio.follow.mapper.FollowMapper;
+import com.problemio.global.dto.CursorResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.quiz.catalog.QuestionSampler;
+import com.problemio.quiz.catalog.QuizQuestions;
+import com.problemio.quiz.counter.PlayCountAggregator;
 import com.problemio.quiz.domain.Question;
 import com.problemio.quiz.domain.QuestionAnswer;
-import com.problemio.quiz.dto.AnswerCreateRequest;
 import com.problemio.quiz.dto.QuestionAnswerDto;
 import com.problemio.quiz.dto.QuestionCreateRequest;
 import com.problemio.quiz.dto.QuestionResponse;
@@ -13,16 +17,20 @@ import com.problemio.quiz.mapper.QuestionAnswerMapper;
 import com.problemio.quiz.mapper.QuestionMapper;
 import com.problemio.quiz.domain.Quiz;
 import com.problemio.quiz.dto.QuizCreateRequest;
+import com.problemio.quiz.dto.QuizCursor;
 import com.problemio.quiz.dto.QuizResponse;
 import com.problemio.quiz.dto.QuizSummaryDto;
 import com.problemio.quiz.dto.QuizUpdateRequest;
 import com.problemio.quiz.mapper.QuizLikeMapper;
 import com.problemio.quiz.mapper.QuizMapper;
+import com.problemio.quiz.search.QuizSearchEngine;
+import com.problemio.ranking.rollup.DailyStatsRecorder;
+import com.problemio.submission.engine.AnswerIndex;
 import com.problemio.submission.mapper.SubmissionDetailMapper;
 import com.problemio.submission.mapper.SubmissionMapper;
 import com.problemio.comment.mapper.CommentLikeMapper;
 import com.problemio.user.dto.UserResponse;
-import com.problemio.user.mapper.UserMapper;
+import com.problemio.user.loader.UserLoader;
 import com.problemio.comment.mapper.CommentMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
@@ -31,11 +39,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import com.problemio.global.util.CursorCodec;
 import com.problemio.global.util.TimeUtils;
 
 @Service
@@ -43,13 +53,16 @@ import com.problemio.global.util.TimeUtils;
 @Transactional
 public class QuizServiceImpl implements QuizService {
 
+    // 질문/정답 다건 INSERT 한 번에 담는 최대 행 수
+    private static final int SAVE_CHUNK_SIZE = 500;
+
     // 퀴즈 기본 정보, 좋아요, 문제, 정답 매퍼
     private final QuizMapper quizMapper;
     private final QuizLikeMapper quizLikeMapper;
     private final QuestionMapper questionMapper;
     private final QuestionAnswerMapper questionAnswerMapper;
     // 유저, 팔로우, 제출 관련 매퍼
-    private final UserMapper userMapper;
+    private final UserLoader userLoader;
     private final FollowMapper followMapper;
     private final SubmissionMapper submissionMapper;
     private final SubmissionDetailMapper submissionDetailMapper;
@@ -58,6 +71,16 @@ public class QuizServiceImpl implements QuizService {
     private final CommentLikeMapper commentLikeMapper;
     // 캐시 관리
     private final CacheManager cacheManager;
+    // 조회수 write-behind 집계
+    private final PlayCountAggregator playCountAggregator;
+    // 키워드 검색 (FULLTEXT / LIKE)
+    private final QuizSearchEngine quizSearchEngine;
+    // 제출 채점 인덱스 (문제/정답 변경 시 무효화)
+    private final AnswerIndex answerIndex;
+    // 퀴즈별 문제/정답 캐시 (조회는 캐시, 수정 시 커밋 후 재적재)
+    private final QuestionCatalog questionCatalog;
+    // 랭킹 일간 집계 (퀴즈 삭제 시 제출 기록만큼 차감)
+    private final DailyStatsRecorder dailyStatsRecorder;
 
     /**
      * 퀴즈 목록 조회 (페이징, 정렬, 검색)
@@ -69,19 +92,13 @@ public class QuizServiceImpl implements QuizService {
         int safeSize = Math.max(size, 1);   // 최소 1건 이상 보장
         int offset = (safePage - 1) * safeSize;
 
-        // 퀴즈 목록 검색 및 전체 개수 조회
-        List<Quiz> quizzes = quizMapper.searchQuizzes(offset, safeSize, sort, keyword);
-        int total = quizMapper.countQuizzes(keyword);
-
-        Map<Long, Integer> commentCountMap = quizzes.isEmpty()
-                ? Map.of()
-                : commentMapper.countCommentsByQuizIds(quizzes.stream().map(Quiz::getId).toList())
-                .stream()
-                .collect(Collectors.toMap(CommentMapper.CommentCount::getQuizId, CommentMapper.CommentCount::getCount));
+        // 퀴즈 목록 검색 및 전체 개수 조회 (전체 개수는 짧은 TTL 캐시 사용)
+        List<Quiz> quizzes = quizSearchEngine.search(offset, safeSize, sort, keyword);
+        int total = countQuizzesCached(keyword);
 
-        // Quiz 엔티티를 요약 DTO로 변환
+        // Quiz 엔티티를 요약 DTO로 변환 (댓글 수는 comment_count 컬럼)
         List<QuizSummaryDto> content = quizzes.stream()
-                .map(q -> toSummaryDto(q, commentCountMap))
+                .map(this::toSummaryDto)
                 .collect(Collectors.toList());
 
         int totalPages = (int) Math.ceil((double) total / safeSize);
@@ -94,6 +111,25 @@ public class QuizServiceImpl implements QuizService {
         );
     }
 
+    /**
+     * 퀴즈 목록 커서 조회 (정렬 키 + id 키셋, OFFSET/COUNT 없음)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<QuizSummaryDto> scrollQuizzes(String sort, String keyword, String cursor, int size) {
+        String safeSort = normalizeSort(sort);
+        int safeSize = normalizeScrollSize(size);
+        QuizCursor after = hasCursor(cursor) ? QuizCursor.decode(safeSort, cursor) : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Quiz> quizzes = quizSearchEngine.scroll(safeSort, keyword, after, safeSize + 1);
+
+        return CursorResponse.of(quizzes, safeSize, q -> QuizCursor.of(safeSort, q).encode())
+                .map(page -> page.stream()
+                        .map(this::toSummaryDto)
+                        .collect(Collectors.toList()));
+    }
+
     // ===== 퀴즈 생성/수정/삭제 =====
     @Override
     public QuizResponse createQuiz(Long userId, QuizCreateRequest request) {
@@ -145,21 +181,13 @@ public class QuizServiceImpl implements QuizService {
         quiz.setUpdatedAt(TimeUtils.now());
         quizMapper.updateQuiz(quiz);
 
-        // 질문 목록 재설정 (삭제 후 재생성)
+        // 질문 목록 변경분만 반영 (기존 질문 id 유지)
         if (request.getQuestions() != null) {
-            List<Question> existing = questionMapper.findByQuizId(quizId);
-            // 기존 질문, 정답 삭제
-            for (Question question : existing) {
-                questionAnswerMapper.deleteByQuestionId(question.getId());
-            }
-
-            questionMapper.deleteByQuizId(quizId);
-            // 새 질문/정답 저장
-            saveQuestions(quizId, request.getQuestions());
+            syncQuestions(quizId, request.getQuestions());
         }
 
-        // 응답 생성
-        return buildQuizResponse(quiz, loadQuestions(quizId), findAuthor(quiz.getUserId()), null);
+        // 응답 생성 (커밋 전 변경분이므로 캐시를 거치지 않고 조회)
+        return buildQuizResponse(quiz, toQuestionResponses(questionCatalog.read(quizId)), findAuthor(quiz.getUserId()), null);
     }
 
     @Override
@@ -190,31 +218,33 @@ public class QuizServiceImpl implements QuizService {
         if (!questionIds.isEmpty()) {
             submissionDetailMapper.deleteByQuestionIds(questionIds);
         }
+        dailyStatsRecorder.removeQuiz(quizId);
         submissionMapper.deleteByQuizId(quizId);
 
         // 질문 및 정답 삭제
-        for (Question question : questions) {
-            questionAnswerMapper.deleteByQuestionId(question.getId());
-        }
+        questionAnswerMapper.deleteByQuizId(quizId);
         questionMapper.deleteByQuizId(quizId);
 
         // 퀴즈 삭제
         quizMapper.deleteQuiz(quizId);
+        playCountAggregator.discard(quizId);
+        answerIndex.evict(quizId);
+        questionCatalog.evict(quizId);
     }
 
     // ===== 퀴즈 조회 =====
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public QuizResponse getQuiz(Long quizId, Long viewerId) {
         Quiz quiz = quizMapper.findById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        // 조회수 증가
-        quizMapper.incrementPlayCount(quizId);
-        quiz.setPlayCount(quiz.getPlayCount() + 1);
+        // 조회수 증가 (메모리 집계 후 주기적으로 DB 반영) -> DB 값 + 미반영 증분
+        long pendingPlays = playCountAggregator.increment(quizId);
+        quiz.setPlayCount(quiz.getPlayCount() + (int) pendingPlays);
 
         UserResponse author = findAuthor(quiz.getUserId());
-        List<QuestionResponse> questions = loadQuestions(quizId);
+        List<QuestionResponse> questions = toQuestionResponses(questionCatalog.get(quizId));
 
         Boolean isLikedByMe = null;
         Boolean isFollowedByMe = null;
@@ -268,9 +298,10 @@ public class QuizServiceImpl implements QuizService {
             return; 
         }
 
-        // 좋아요 레코드 생성 후 카운트 증가
-        quizLikeMapper.insertQuizLike(buildQuizLike(userId, quizId));
-        quizMapper.incrementLikeCount(quizId);
+        // 좋아요 레코드 생성 후 카운트 증가 (동시 요청으로 이미 추가된 경우 카운트 유지)
+        if (quizLikeMapper.insertQuizLike(buildQuizLike(userId, quizId)) > 0) {
+            quizMapper.incrementLikeCount(quizId);
+        }
     }
 
     /**
@@ -281,15 +312,50 @@ public class QuizServiceImpl implements QuizService {
         quizMapper.findById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        quizLikeMapper.deleteQuizLike(userId, quizId);
-        quizMapper.decrementLikeCount(quizId);
+        // 실제로 삭제된 좋아요가 있을 때만 카운트 감소
+        if (quizLikeMapper.deleteQuizLike(userId, quizId) > 0) {
+            quizMapper.decrementLikeCount(quizId);
+        }
+    }
+
+    // ===== 목록 조회 헬퍼 =====
+    /**
+     * 검색어별 전체 개수 캐시 (페이지 이동마다 COUNT 를 반복하지 않도록)
+     */
+    private int countQuizzesCached(String keyword) {
+        String key = keyword == null ? "" : keyword;
+        Cache cache = cacheManager.getCache("quizCount");
+        if (cache != null) {
+            Integer cached = cache.get(key, Integer.class);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        int total = quizSearchEngine.count(keyword);
+        if (cache != null) {
+            cache.put(key, total);
+        }
+        return total;
+    }
+
+    private String normalizeSort(String sort) {
+        if ("popular".equals(sort) || "views".equals(sort)) {
+            return sort;
+        }
+        return "latest";
+    }
+
+    private int normalizeScrollSize(int size) {
+        return Math.min(Math.max(size, 1), 100);
+    }
+
+    private boolean hasCursor(String cursor) {
+        return cursor != null && !cursor.isBlank();
     }
 
     // ===== DTO 변환 헬퍼 =====
-    private QuizSummaryDto toSummaryDto(Quiz quiz, Map<Long, Integer> commentCountMap) {
-        int commentCount = commentCountMap != null
-                ? commentCountMap.getOrDefault(quiz.getId(), 0)
-                : 0;
+    private QuizSummaryDto toSummaryDto(Quiz quiz) {
         return QuizSummaryDto.builder()
                 .id(quiz.getId())
                 .title(quiz.getTitle())
@@ -297,16 +363,11 @@ public class QuizServiceImpl implements QuizService {
                 .thumbnailUrl(quiz.getThumbnailUrl())
                 .likeCount(quiz.getLikeCount())
                 .playCount(quiz.getPlayCount())
-                .commentCount(commentCount)
+                .commentCount(quiz.getCommentCount())
                 .hidden(quiz.isHidden())
                 .build();
     }
 
-    // 댓글 수 정보가 없을 때의 호환용 메서드
-    private QuizSummaryDto toSummaryDto(Quiz quiz) {
-        return toSummaryDto(quiz, Map.of());
-    }
-
     /**
      * 응답 객체 생성 (팔로우 여부 미포함)
      */
@@ -342,11 +403,16 @@ public class QuizServiceImpl implements QuizService {
     }
 
     // ===== 질문/정답 저장 및 로딩 헬퍼 =====
+    /**
+     * 질문/정답 일괄 저장 (질문 1회 + 정답 최대 SAVE_CHUNK_SIZE 건씩 다건 INSERT)
+     */
     private void saveQuestions(Long quizId, List<QuestionCreateRequest> questions) {
         if (questions == null || questions.isEmpty()) {
             return;
         }
 
+        LocalDateTime now = TimeUtils.now();
+        List<Question> rows = new ArrayList<>(questions.size());
         int index = 1;
         for (QuestionCreateRequest request : questions) {
             Question question = new Question();
@@ -356,58 +422,106 @@ public class QuizServiceImpl implements QuizService {
             question.setQuestionOrder(order);
             question.setImageUrl(request.getImageUrl());
             question.setDescription(request.getDescription());
-            question.setCreatedAt(TimeUtils.now());
-
-            questionMapper.insertQuestion(question);
-            saveAnswers(question.getId(), request.getAnswers());
+            question.setCreatedAt(now);
+            rows.add(question);
             index++;
         }
+
+        insertQuestionRows(rows, questions);
     }
 
-    private void saveAnswers(Long questionId, List<AnswerCreateRequest> answers) {
-        if (answers == null || answers.isEmpty()) {
+    /**
+     * 질문 행 저장 후 생성된 id 로 정답 매핑하여 일괄 저장 (rows 와 requests 는 같은 인덱스)
+     */
+    private void insertQuestionRows(List<Question> rows, List<QuestionCreateRequest> requests) {
+        if (rows.isEmpty()) {
             return;
         }
 
-        int idx = 1;
-        for (AnswerCreateRequest answerRequest : answers) {
-            // 빈 정답 제외
-            if (answerRequest.getAnswerText() == null || answerRequest.getAnswerText().isBlank()) {
-                continue;
-            }
+        for (List<Question> chunk : chunk(rows)) {
+            questionMapper.insertQuestions(chunk);
+        }
+
+        List<QuestionAnswer> answers = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            answers.addAll(QuestionDiff.toAnswers(rows.get(i).getId(), requests.get(i).getAnswers()));
+        }
+        for (List<QuestionAnswer> chunk : chunk(answers)) {
+            questionAnswerMapper.insertAnswers(chunk);
+        }
+    }
+
+    /**
+     * 퀴즈 수정 시 질문/정답 동기화
+     * - 기존 질문과 비교해 필요한 삭제/수정/추가만 일괄 실행
+     * - 변경된 질문의 캐시만 제거
+     */
+    private void syncQuestions(Long quizId, List<QuestionCreateRequest> requests) {
+        List<Question> existing = questionMapper.findByQuizId(quizId);
+        Map<Long, List<QuestionAnswer>> existingAnswers = existing.isEmpty()
+                ? Map.of()
+                : questionAnswerMapper.findByQuizId(quizId).stream()
+                .collect(Collectors.groupingBy(QuestionAnswer::getQuestionId));
 
-            QuestionAnswer answer = new QuestionAnswer();
-            answer.setQuestionId(questionId);
-            answer.setAnswerText(answerRequest.getAnswerText());
-            answer.setAnswerText(answerRequest.getAnswerText());
-            answer.setSortOrder(answerRequest.getSortOrder() != null ? answerRequest.getSortOrder() : idx);
+        QuestionDiff diff = QuestionDiff.compute(quizId, existing, existingAnswers, requests, TimeUtils.now());
 
-            questionAnswerMapper.insertAnswer(answer);
-            idx++;
+        // 삭제된 질문의 제출 상세 -> 정답(삭제 + 교체 대상) -> 질문 순으로 정리
+        if (!diff.getDeletedIds().isEmpty()) {
+            submissionDetailMapper.deleteByQuestionIds(diff.getDeletedIds());
         }
+        List<Long> answerCleanupIds = new ArrayList<>(diff.getDeletedIds());
+        answerCleanupIds.addAll(diff.getAnswerReplacedIds());
+        if (!answerCleanupIds.isEmpty()) {
+            questionAnswerMapper.deleteByQuestionIds(answerCleanupIds);
+        }
+        if (!diff.getDeletedIds().isEmpty()) {
+            questionMapper.deleteByIds(diff.getDeletedIds());
+        }
+
+        for (List<Question> chunk : chunk(diff.getUpdates())) {
+            questionMapper.updateQuestions(chunk);
+        }
+        for (List<QuestionAnswer> chunk : chunk(diff.getReplacementAnswers())) {
+            questionAnswerMapper.insertAnswers(chunk);
+        }
+        insertQuestionRows(diff.getInserts(), diff.getInsertRequests());
+
+        evictQuestionCaches(quizId, diff);
     }
 
-    private List<QuestionResponse> loadQuestions(Long quizId) {
-        List<Question> questions = questionMapper.findByQuizId(quizId);
-        Map<Long, List<QuestionAnswerDto>> answersByQuestion = loadAnswersByQuestionIds(
-                questions.stream().map(Question::getId).toList()
-        );
-        return questions.stream()
+    private void evictQuestionCaches(Long quizId, QuestionDiff diff) {
+        if (!diff.hasChanges()) {
+            return;
+        }
+        answerIndex.evict(quizId);
+        questionCatalog.refresh(quizId);
+    }
+
+    // 한 문장에 담을 행 수 제한 (max_allowed_packet 고려)
+    private static <T> List<List<T>> chunk(List<T> rows) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += SAVE_CHUNK_SIZE) {
+            chunks.add(rows.subList(from, Math.min(from + SAVE_CHUNK_SIZE, rows.size())));
+        }
+        return chunks;
+    }
+
+    private List<QuestionResponse> toQuestionResponses(QuizQuestions catalog) {
+        return catalog.getQuestions().stream()
                 .map(q -> QuestionResponse.builder()
                         .id(q.getId())
                         .order(q.getQuestionOrder())
                         .description(q.getDescription())
                         .imageUrl(q.getImageUrl())
-                        .answers(answersByQuestion.getOrDefault(q.getId(), List.of()))
+                        .answers(catalog.answersOf(q.getId()).stream().map(QuizServiceImpl::toAnswerDto).toList())
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private List<QuestionResponse> mapQuestionsWithAnswers(List<Question> questions) {
-        Map<Long, List<QuestionAnswerDto>> answersByQuestion = loadAnswersByQuestionIds(
-                questions.stream().map(Question::getId).toList()
-        );
-
+    /**
+     * 추출한 문제 응답 (order 는 추출 순서대로 1부터)
+     */
+    private List<QuestionResponse> toSampledResponses(List<Question> questions, QuizQuestions catalog) {
         final int[] orderSeq = {1};
         return questions.stream()
                 .map(q -> QuestionResponse.builder()
@@ -415,48 +529,21 @@ public class QuizServiceImpl implements QuizService {
                         .order(orderSeq[0]++)
                         .description(q.getDescription())
                         .imageUrl(q.getImageUrl())
-                        .answers(answersByQuestion.getOrDefault(q.getId(), List.of()))
+                        .answers(catalog.answersOf(q.getId()).stream().map(QuizServiceImpl::toAnswerDto).toList())
                         .build())
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 복수의 질문 ID에 대한 정답 조회
-     */
-    private Map<Long, List<QuestionAnswerDto>> loadAnswersByQuestionIds(List<Long> questionIds) {
-        if (questionIds == null || questionIds.isEmpty()) {
-            return Map.of();
-        }
-
-        List<QuestionAnswer> answers = questionAnswerMapper.findByQuestionIds(questionIds);
-
-        return answers.stream()
-                .collect(Collectors.groupingBy(
-                        QuestionAnswer::getQuestionId,
-                        Collectors.mapping(a -> {
-                            QuestionAnswerDto dto = new QuestionAnswerDto();
-                            dto.setId(a.getId());
-                            dto.setAnswerText(a.getAnswerText());
-                            dto.setSortOrder(a.getSortOrder());
-                            return dto;
-                        }, Collectors.toList())
-                ));
+    private static QuestionAnswerDto toAnswerDto(QuestionAnswer answer) {
+        QuestionAnswerDto dto = new QuestionAnswerDto();
+        dto.setId(answer.getId());
+        dto.setAnswerText(answer.getAnswerText());
+        dto.setSortOrder(answer.getSortOrder());
+        return dto;
     }
 
     private UserResponse findAuthor(Long userId) {
-        Cache cache = cacheManager.getCache("userProfile");
-        if (cache != null) {
-            UserResponse cached = cache.get(userId, UserResponse.class);
-            if (cached != null) {
-                return cached;
-            }
-        }
-
-        UserResponse author = userMapper.findById(userId).orElse(null);
-        if (cache != null && author != null) {
-            cache.put(userId, author);
-        }
-        return author;
+        return userLoader.load(userId);
     }
 
     /**
@@ -489,7 +576,40 @@ public class QuizServiceImpl implements QuizService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<QuestionResponse> getQuizQuestions(Long quizId, Long viewerId, Integer limit) {
+    public CursorResponse<QuizSummaryDto> scrollQuizzesOfFollowings(Long userId, String cursor, int size) {
+        int safeSize = normalizeScrollSize(size);
+        CursorCodec.TimeKey after = hasCursor(cursor) ? CursorCodec.TimeKey.decode(cursor) : null;
+
+        List<QuizSummaryDto> quizzes = quizMapper.scrollQuizzesOfFollowings(
+                userId,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                safeSize + 1
+        );
+        return CursorResponse.of(quizzes, safeSize,
+                q -> new CursorCodec.TimeKey(q.getCreatedAt(), q.getId()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<QuizSummaryDto> scrollLikedQuizzes(Long userId, String cursor, int size) {
+        int safeSize = normalizeScrollSize(size);
+        CursorCodec.TimeKey after = hasCursor(cursor) ? CursorCodec.TimeKey.decode(cursor) : null;
+
+        // 좋아요 목록은 좋아요 누른 시각 기준 정렬
+        List<QuizSummaryDto> quizzes = quizMapper.scrollLikedQuizzesByUser(
+                userId,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                safeSize + 1
+        );
+        return CursorResponse.of(quizzes, safeSize,
+                q -> new CursorCodec.TimeKey(q.getLikedAt(), q.getId()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuestionResponse> getQuizQuestions(Long quizId, Long viewerId, Integer limit, Long seed) {
         Quiz quiz = quizMapper.findById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
@@ -498,9 +618,13 @@ public class QuizServiceImpl implements QuizService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
+        // 캐시된 문제 목록에서 추출 (seed 를 주면 같은 순서 재현)
         int safeLimit = normalizeLimit(limit);
-        List<Question> questions = questionMapper.findRandomByQuizId(quizId, safeLimit);
-        return mapQuestionsWithAnswers(questions);
+        QuizQuestions catalog = questionCatalog.get(quizId);
+        List<Question> questions = seed != null
+                ? QuestionSampler.sample(catalog.getQuestions(), safeLimit, seed)
+                : QuestionSampler.sample(catalog.getQuestions(), safeLimit);
+        return toSampledResponses(questions, catalog);
     }
 
     private int normalizeLimit(Integer limit) {
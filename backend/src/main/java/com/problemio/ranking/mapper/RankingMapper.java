@@ -4,14 +4,33 @@ import com.problemio.ranking.dto.RankingRowDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface RankingMapper {
-    List<RankingRowDto> findRankingInPeriod(
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end,
-            @Param("limit") int limit
+    // 일간 집계 기준 기간 내 회원별 누적치 ([startDate, endDate))
+    List<RankingRowDto> findRollupsInPeriod(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
+
+    void upsertDailyStarted(@Param("userId") Long userId,
+                            @Param("statDate") LocalDate statDate,
+                            @Param("totalQuestions") int totalQuestions,
+                            @Param("submittedAt") LocalDateTime submittedAt);
+
+    void insertDailyQuiz(@Param("userId") Long userId,
+                         @Param("statDate") LocalDate statDate,
+                         @Param("quizId") Long quizId);
+
+    void addDailyCorrect(@Param("userId") Long userId,
+                         @Param("statDate") LocalDate statDate,
+                         @Param("delta") int delta);
+
+    // 퀴즈 삭제 시 해당 퀴즈의 제출 기록을 일간 집계에서 제외 (submissions 삭제 전에 호출)
+    int subtractQuizFromDailyStats(@Param("quizId") Long quizId);
+
+    int deleteQuizFromDailyQuizzes(@Param("quizId") Long quizId);
 }
@@ -0,0 +1,48 @@
+package com.problemio.ranking.rollup;
+
+import com.problemio.ranking.mapper.RankingMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 일간 랭킹 집계(user_daily_stats, user_daily_quizzes) 갱신
+ * - 제출 시작 시각의 날짜 기준으로 누적 (기존 submitted_at 기준 집계와 동일)
+ * - 호출한 쪽 트랜잭션 안에서 제출 기록과 함께 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyStatsRecorder {
+
+    private final RankingMapper rankingMapper;
+
+    /**
+     * 새 제출 시작: 총 문항 수 누적 + 푼 퀴즈 목록에 추가
+     */
+    public void recordStarted(Long userId, Long quizId, int totalQuestions, LocalDateTime startedAt) {
+        if (userId == null || startedAt == null) {
+            return;
+        }
+        rankingMapper.upsertDailyStarted(userId, startedAt.toLocalDate(), totalQuestions, startedAt);
+        rankingMapper.insertDailyQuiz(userId, startedAt.toLocalDate(), quizId);
+    }
+
+    /**
+     * 정답 수 변화 반영 (재응답으로 줄어드는 경우 음수)
+     */
+    public void recordCorrectDelta(Long userId, LocalDateTime startedAt, int delta) {
+        if (userId == null || startedAt == null || delta == 0) {
+            return;
+        }
+        rankingMapper.addDailyCorrect(userId, startedAt.toLocalDate(), delta);
+    }
+
+    /**
+     * 퀴즈 삭제: 해당 퀴즈의 제출 기록을 집계에서 제외 (제출 기록 삭제 전에 같은 트랜잭션에서 호출)
+     */
+    public void removeQuiz(Long quizId) {
+        rankingMapper.subtractQuizFromDailyStats(quizId);
+        rankingMapper.deleteQuizFromDailyQuizzes(quizId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.problemio.ranking.service;
 
+import com.problemio.global.util.TimeUtils;
 import com.problemio.ranking.domain.RankingPeriod;
 import com.problemio.ranking.dto.RankingResponseDto;
 import com.problemio.ranking.dto.RankingRowDto;
@@ -10,8 +11,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 @Service
 public class RankingServiceImpl implements RankingService {
@@ -38,35 +41,60 @@ public class RankingServiceImpl implements RankingService {
     public List<RankingResponseDto> getRanking(RankingPeriod period, int limit) {
         int topN = (limit > 0 && limit <= 100) ? limit : 20;
 
-        LocalDate today = LocalDate.now();
-        LocalDateTime start;
-        LocalDateTime end;
+        LocalDate today = TimeUtils.now().toLocalDate();
+        LocalDate start;
+        LocalDate end;
 
         switch (period) {
             case TODAY -> {
-                start = today.atStartOfDay();
-                end = today.plusDays(1).atStartOfDay();
+                start = today;
+                end = today.plusDays(1);
             }
             case YESTERDAY -> {
-                start = today.minusDays(1).atStartOfDay();
-                end = today.atStartOfDay();
+                start = today.minusDays(1);
+                end = today;
             }
             case WEEK -> {
-                LocalDate weekStart = today.with(DayOfWeek.MONDAY);
-                start = weekStart.atStartOfDay();
-                end = weekStart.plusWeeks(1).atStartOfDay();
+                start = today.with(DayOfWeek.MONDAY);
+                end = start.plusWeeks(1);
             }
             default -> throw new IllegalArgumentException("Unsupported period: " + period);
         }
 
-        List<RankingRowDto> rows = rankingMapper.findRankingInPeriod(start, end, topN);
+        // 일간 집계 행만 읽어 점수 계산 후 상위 N 명만 유지
+        List<RankingRowDto> rows = rankingMapper.findRollupsInPeriod(start, end);
+        return selectTop(rows, topN);
+    }
+
+    /**
+     * 크기 N 의 최소 힙으로 상위 N 명 선택 (점수 내림차순, 동점이면 최근 제출 우선)
+     */
+    List<RankingResponseDto> selectTop(List<RankingRowDto> rows, int topN) {
+        Comparator<Scored> order = Comparator
+                .comparingInt(Scored::score)
+                .thenComparing(s -> s.row().getLastSubmittedAt(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        PriorityQueue<Scored> heap = new PriorityQueue<>(topN + 1, order);
+        for (RankingRowDto row : rows) {
+            if (row.getSolvedQuizCount() <= 0) {
+                continue;
+            }
+            heap.offer(new Scored(row, calcScore(row)));
+            if (heap.size() > topN) {
+                heap.poll(); // 가장 낮은 점수 제거
+            }
+        }
 
-        return rows.stream()
-                .map(r -> RankingResponseDto.of(r, calcScore(r)))
-                .sorted((a, b) -> Integer.compare(b.getScore(), a.getScore()))
+        List<Scored> top = new ArrayList<>(heap);
+        top.sort(order.reversed());
+        return top.stream()
+                .map(s -> RankingResponseDto.of(s.row(), s.score()))
                 .toList();
     }
 
+    private record Scored(RankingRowDto row, int score) {
+    }
+
     private int calcScore(RankingRowDto r) {
         double smoothedAccuracy = calcSmoothedAccuracy(r.getTotalCorrect(), r.getTotalQuestions());
         double avgQuestionsPerQuiz = (r.getSolvedQuizCount() > 0)
@@ -0,0 +1,68 @@
+package com.problemio.submission.engine;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.quiz.catalog.QuizQuestions;
+import com.problemio.quiz.mapper.QuizMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 퀴즈별 채점 인덱스 ("compiledQuiz" 캐시)
+ * - QuestionCatalog 의 문제/정답 묶음을 컴파일해 두고, 이후 제출은 DB 조회 없이 채점
+ * - 카탈로그가 갱신되면(퀴즈 수정) 다음 요청에서 다시 컴파일
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerIndex {
+
+    private static final String CACHE_NAME = "compiledQuiz";
+
+    private final CacheManager cacheManager;
+    private final QuizMapper quizMapper;
+    private final QuestionCatalog questionCatalog;
+
+    public CompiledQuiz get(Long quizId) {
+        QuizQuestions questions = questionCatalog.get(quizId);
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            CompiledQuiz cached = cache.get(quizId, CompiledQuiz.class);
+            if (cached != null && cached.isCompiledFrom(questions)) {
+                return cached;
+            }
+        }
+
+        // 문제가 없으면 퀴즈 존재 여부 확인 (삭제된 퀴즈)
+        if (questions.isEmpty()) {
+            quizMapper.findById(quizId).orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        }
+        return compileAndPut(quizId, questions);
+    }
+
+    /**
+     * 이미 조회한 문제 묶음으로 인덱스 적재 (플레이 화면 진입 시)
+     */
+    public CompiledQuiz preload(QuizQuestions questions) {
+        return compileAndPut(questions.getQuizId(), questions);
+    }
+
+    public void evict(Long quizId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(quizId);
+        }
+    }
+
+    private CompiledQuiz compileAndPut(Long quizId, QuizQuestions questions) {
+        CompiledQuiz compiled = CompiledQuiz.compile(questions);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(quizId, compiled);
+        }
+        return compiled;
+    }
+}
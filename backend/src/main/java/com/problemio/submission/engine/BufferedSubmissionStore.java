@@ -0,0 +1,188 @@
+package com.problemio.submission.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.problemio.global.cache.InstrumentedCache;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.submission.domain.Submission;
+import com.problemio.submission.domain.SubmissionDetail;
+import com.problemio.submission.mapper.SubmissionDetailMapper;
+import com.problemio.submission.mapper.SubmissionMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비회원 플레이 답안 버퍼
+ * - 문제별 결과를 메모리에만 모았다가 퀴즈 종료(모든 문제 응답) 또는 세션 만료 시
+ *   submission_details 다건 INSERT 1회 + submissions UPDATE 1회로 저장
+ * - 개수 제한을 넘겨 밀려난 세션도 저장 후 제거, 정상 종료 시 남은 세션 모두 저장
+ * - 비정상 종료 시 버퍼에 남은 답안은 유실될 수 있음 (비회원 기록에 한해 허용)
+ */
+@Slf4j
+@Component
+public class BufferedSubmissionStore implements InstrumentedCache {
+
+    private final SubmissionMapper submissionMapper;
+    private final SubmissionDetailMapper submissionDetailMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Cache<Long, SubmissionState> sessions;
+
+    public BufferedSubmissionStore(SubmissionMapper submissionMapper,
+                                   SubmissionDetailMapper submissionDetailMapper,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${quiz.submission.buffer-anonymous:true}") boolean enabled,
+                                   @Value("${quiz.submission.buffer-timeout-minutes:30}") long timeoutMinutes,
+                                   @Value("${quiz.submission.buffer-max-sessions:10000}") long maxSessions) {
+        this.submissionMapper = submissionMapper;
+        this.submissionDetailMapper = submissionDetailMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterAccess(timeoutMinutes, TimeUnit.MINUTES)
+                .maximumSize(maxSessions)
+                .recordStats()
+                .removalListener((Long id, SubmissionState state, RemovalCause cause) -> {
+                    // 만료/용량 초과로 밀려난 세션만 여기서 저장 (명시적 종료는 호출 측에서 저장)
+                    if (state != null && cause.wasEvicted()) {
+                        flushInNewTransaction(state);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public String getCacheName() {
+        return "submissionBuffer";
+    }
+
+    @Override
+    public CacheStats stats() {
+        return sessions.stats();
+    }
+
+    @Override
+    public long estimatedSize() {
+        return sessions.estimatedSize();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새 비회원 제출을 버퍼 모드로 등록 (submissions 행 INSERT 직후 호출)
+     */
+    public SubmissionState register(Submission submission) {
+        SubmissionState state = new SubmissionState(
+                submission.getId(), submission.getQuizId(), submission.getUserId(), submission.getChallengeId(),
+                submission.getSubmittedAt(), submission.getTotalQuestions(), true);
+        sessions.put(submission.getId(), state);
+        return state;
+    }
+
+    public SubmissionState get(Long submissionId) {
+        return sessions.getIfPresent(submissionId);
+    }
+
+    /**
+     * 버퍼 세션 저장 (호출 측 트랜잭션에서 실행)
+     * - 커밋되면 버퍼에서 제거, 롤백되면 답안을 버퍼에 남겨 다음 요청에서 이어서 기록
+     * - 트랜잭션 결과가 나올 때까지 같은 세션의 다른 요청은 대기 (커밋 전 상태를 저장된 것으로 보지 않도록)
+     */
+    public void complete(SubmissionState state) {
+        Map<Long, Boolean> results = state.beginFlush();
+        if (results == null) {
+            return; // 이미 저장됨
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean persisted = false;
+            try {
+                write(state, results);
+                persisted = true;
+            } finally {
+                endFlush(state, persisted);
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                endFlush(state, status == STATUS_COMMITTED);
+            }
+        });
+        write(state, results);
+    }
+
+    /**
+     * 만료 처리는 캐시 접근 시점에 일어나므로 주기적으로 정리해 저장을 앞당김
+     */
+    @Scheduled(fixedDelayString = "${quiz.submission.buffer-cleanup-interval-ms:60000}")
+    public void cleanUp() {
+        sessions.cleanUp();
+    }
+
+    @PreDestroy
+    public void drain() {
+        List<SubmissionState> remaining = new ArrayList<>(sessions.asMap().values());
+        sessions.asMap().clear();
+        remaining.forEach(this::flushInNewTransaction);
+    }
+
+    private void flushInNewTransaction(SubmissionState state) {
+        Map<Long, Boolean> results = state.beginFlush();
+        if (results == null) {
+            return; // 이미 저장됨
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(state, results));
+        } catch (RuntimeException e) {
+            log.error("Failed to flush buffered submission {}", state.getSubmissionId(), e);
+        } finally {
+            // 이미 버퍼에서 빠진 세션이므로 실패해도 닫음 (비회원 기록 유실 허용)
+            state.endFlush(true);
+        }
+    }
+
+    private void endFlush(SubmissionState state, boolean persisted) {
+        state.endFlush(persisted);
+        if (persisted) {
+            sessions.asMap().remove(state.getSubmissionId(), state);
+        }
+    }
+
+    private void write(SubmissionState state, Map<Long, Boolean> results) {
+        if (!results.isEmpty()) {
+            List<SubmissionDetail> details = new ArrayList<>(results.size());
+            results.forEach((questionId, correct) -> {
+                SubmissionDetail detail = new SubmissionDetail();
+                detail.setSubmissionId(state.getSubmissionId());
+                detail.setQuestionId(questionId);
+                detail.setCorrect(correct);
+                details.add(detail);
+            });
+            submissionDetailMapper.insertSubmissionDetails(details);
+        }
+
+        // 만료로 저장되는 경우 대기 시간이 포함되지 않도록 마지막 응답 시각 기준
+        LocalDateTime endedAt = state.getLastAnsweredAt() != null ? state.getLastAnsweredAt() : TimeUtils.now();
+        submissionMapper.updateProgress(state.getSubmissionId(), state.getQuizId(),
+                state.getCorrectCount(), state.playTimeAt(endedAt));
+    }
+}
@@ -0,0 +1,101 @@
+package com.problemio.submission.engine;
+
+import com.problemio.quiz.catalog.QuizQuestions;
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채점용으로 미리 가공한 퀴즈 (문제별 정규화된 정답 집합)
+ * - 생성 후 변경하지 않으므로 여러 요청에서 동시에 읽어도 안전
+ */
+@Getter
+public class CompiledQuiz {
+
+    private final Long quizId;
+    private final Map<Long, CompiledQuestion> questions;
+    @Getter(AccessLevel.NONE)
+    private final QuizQuestions source; // 컴파일에 사용한 문제 묶음 (카탈로그 갱신 감지용)
+
+    private CompiledQuiz(Long quizId, Map<Long, CompiledQuestion> questions, QuizQuestions source) {
+        this.quizId = quizId;
+        this.questions = questions;
+        this.source = source;
+    }
+
+    public static CompiledQuiz compile(QuizQuestions source) {
+        return compile(source.getQuizId(), source.getQuestions(), source.getAnswers(), source);
+    }
+
+    public static CompiledQuiz compile(Long quizId, List<Question> questions, List<QuestionAnswer> answers) {
+        return compile(quizId, questions, answers, null);
+    }
+
+    private static CompiledQuiz compile(Long quizId, List<Question> questions, List<QuestionAnswer> answers,
+                                        QuizQuestions source) {
+        Map<Long, List<QuestionAnswer>> answersByQuestion = answers.stream()
+                .collect(Collectors.groupingBy(QuestionAnswer::getQuestionId));
+
+        Map<Long, CompiledQuestion> compiled = new HashMap<>();
+        for (Question question : questions) {
+            List<String> texts = answersByQuestion.getOrDefault(question.getId(), List.of()).stream()
+                    .sorted((a, b) -> Integer.compare(a.getSortOrder(), b.getSortOrder()))
+                    .map(QuestionAnswer::getAnswerText)
+                    .toList();
+            Set<String> normalized = texts.stream()
+                    .map(CompiledQuiz::normalize)
+                    .collect(Collectors.toCollection(HashSet::new));
+            compiled.put(question.getId(), new CompiledQuestion(question.getId(), question.getImageUrl(), texts, normalized));
+        }
+        return new CompiledQuiz(quizId, Collections.unmodifiableMap(compiled), source);
+    }
+
+    public boolean isCompiledFrom(QuizQuestions questions) {
+        return source == questions;
+    }
+
+    public CompiledQuestion question(Long questionId) {
+        return questions.get(questionId);
+    }
+
+    public int size() {
+        return questions.size();
+    }
+
+    /**
+     * 채점 비교용 정규화 (앞뒤 공백 제거 + 소문자)
+     */
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    public static class CompiledQuestion {
+        private final Long id;
+        private final String imageUrl;
+        // 표시용 정답 (정렬 순서대로)
+        private final List<String> answerTexts;
+        private final Set<String> normalizedAnswers;
+
+        private CompiledQuestion(Long id, String imageUrl, List<String> answerTexts, Set<String> normalizedAnswers) {
+            this.id = id;
+            this.imageUrl = imageUrl;
+            this.answerTexts = answerTexts;
+            this.normalizedAnswers = normalizedAnswers;
+        }
+
+        public boolean isCorrect(String userAnswer) {
+            return normalizedAnswers.contains(normalize(userAnswer));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.problemio.submission.engine;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.TimeUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 진행 중인 제출의 메모리 상태 (문제별 정답 여부)
+ * - 같은 문제를 다시 제출하면 마지막 결과로 덮어씀 (submission_details 의 upsert 와 동일)
+ * - 변경은 동일 인스턴스 락 안에서만 수행
+ * - buffered 상태는 답안을 DB 에 바로 쓰지 않고 저장(flush) 시점에 한 번에 저장, 저장 트랜잭션 결과가 나올 때까지 기록은 대기
+ */
+@Getter
+public class SubmissionState {
+
+    private final Long submissionId;
+    private final Long quizId;
+    private final Long userId; // 비회원은 null
+    private final Long challengeId; // 일반 플레이는 null
+    private final LocalDateTime startedAt;
+    private final int totalQuestions;
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, Boolean> results = new LinkedHashMap<>();
+    private int correctCount;
+    private LocalDateTime lastAnsweredAt;
+    private final boolean buffered;
+    @Getter(AccessLevel.NONE)
+    private boolean flushing;
+    @Getter(AccessLevel.NONE)
+    private boolean closed;
+
+    public SubmissionState(Long submissionId, Long quizId, Long userId, LocalDateTime startedAt, int totalQuestions) {
+        this(submissionId, quizId, userId, null, startedAt, totalQuestions, false);
+    }
+
+    public SubmissionState(Long submissionId, Long quizId, Long userId, Long challengeId, LocalDateTime startedAt,
+                           int totalQuestions, boolean buffered) {
+        this.submissionId = submissionId;
+        this.quizId = quizId;
+        this.userId = userId;
+        this.challengeId = challengeId;
+        this.startedAt = startedAt;
+        this.totalQuestions = totalQuestions;
+        this.buffered = buffered;
+    }
+
+    /**
+     * 결과 기록 후 정답 수 변화량 반환 (-1, 0, 1)
+     */
+    public synchronized int record(Long questionId, boolean correct) {
+        lastAnsweredAt = TimeUtils.now();
+        Boolean previous = results.put(questionId, correct);
+        int delta = 0;
+        if (Boolean.TRUE.equals(previous)) {
+            delta--;
+        }
+        if (correct) {
+            delta++;
+        }
+        correctCount += delta;
+        return delta;
+    }
+
+    /**
+     * 버퍼 상태에 기록 (저장 중이면 결과를 기다리고, 이미 저장되어 닫힌 상태면 false)
+     */
+    public synchronized boolean recordIfOpen(Long questionId, boolean correct) {
+        awaitFlush();
+        if (closed) {
+            return false;
+        }
+        record(questionId, correct);
+        return true;
+    }
+
+    /**
+     * 버퍼 저장 시작: 저장할 결과 스냅샷 반환 (이미 닫혔으면 null)
+     * - endFlush 전까지 다른 기록/저장 요청은 대기
+     */
+    public synchronized Map<Long, Boolean> beginFlush() {
+        awaitFlush();
+        if (closed) {
+            return null;
+        }
+        flushing = true;
+        return new LinkedHashMap<>(results);
+    }
+
+    /**
+     * 버퍼 저장 종료: 반영되었으면 닫고, 롤백되었으면 다시 기록 가능한 상태로 되돌림
+     */
+    public synchronized void endFlush(boolean persisted) {
+        flushing = false;
+        closed = persisted;
+        notifyAll();
+    }
+
+    public synchronized boolean isFinished() {
+        return results.size() >= totalQuestions;
+    }
+
+    public synchronized int getAnsweredCount() {
+        return results.size();
+    }
+
+    public synchronized int getCorrectCount() {
+        return correctCount;
+    }
+
+    public synchronized LocalDateTime getLastAnsweredAt() {
+        return lastAnsweredAt;
+    }
+
+    private void awaitFlush() {
+        while (flushing) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
+    /**
+     * 시작 시각부터 경과한 플레이 시간 (초)
+     */
+    public double playTimeAt(LocalDateTime now) {
+        if (startedAt == null) {
+            return 0.0;
+        }
+        java.time.Duration duration = java.time.Duration.between(startedAt, now);
+        return duration.getSeconds() + (duration.getNano() / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,90 @@
+package com.problemio.submission.engine;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.submission.domain.Submission;
+import com.problemio.submission.domain.SubmissionDetail;
+import com.problemio.submission.mapper.SubmissionDetailMapper;
+import com.problemio.submission.mapper.SubmissionMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 진행 중인 제출 상태 저장소 ("submissionState" 캐시)
+ * - 캐시에 없으면 submissions/submission_details 에서 한 번 복원
+ * - DB 반영 실패 시 evict 해 다음 요청에서 DB 기준으로 다시 복원
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmissionStateStore {
+
+    private static final String CACHE_NAME = "submissionState";
+
+    private final CacheManager cacheManager;
+    private final SubmissionMapper submissionMapper;
+    private final SubmissionDetailMapper submissionDetailMapper;
+
+    /**
+     * 새 제출 상태 등록 (INSERT 직후 호출)
+     */
+    public SubmissionState register(Submission submission) {
+        SubmissionState state = new SubmissionState(
+                submission.getId(), submission.getQuizId(), submission.getUserId(), submission.getChallengeId(),
+                submission.getSubmittedAt(), submission.getTotalQuestions(), false);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(submission.getId(), state);
+        }
+        return state;
+    }
+
+    public SubmissionState get(Long submissionId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return load(submissionId);
+        }
+        return cache.get(submissionId, () -> load(submissionId));
+    }
+
+    public void evict(Long submissionId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(submissionId);
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 메모리 상태가 DB 보다 앞서므로 버리고 다음 요청에서 복원
+     * - 커밋 단계 실패처럼 메서드 밖에서 나는 예외도 포함
+     */
+    public void evictOnRollback(Long submissionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(submissionId);
+                }
+            }
+        });
+    }
+
+    private SubmissionState load(Long submissionId) {
+        Submission submission = submissionMapper.findById(submissionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
+
+        SubmissionState state = new SubmissionState(
+                submission.getId(), submission.getQuizId(), submission.getUserId(), submission.getChallengeId(),
+                submission.getSubmittedAt(), submission.getTotalQuestions(), false);
+        for (SubmissionDetail detail : submissionDetailMapper.findBySubmissionId(submissionId)) {
+            state.record(detail.getQuestionId(), detail.isCorrect());
+        }
+        return state;
+    }
+}
@@ -22,6 +22,17 @@ public interface SubmissionMapper {
                         @Param("quizId") Long quizId,
                         @Param("playTime") Double playTime);
 
+    void updateProgress(@Param("id") Long id,
+                        @Param("quizId") Long quizId,
+                        @Param("correctCount") int correctCount,
+                        @Param("playTime") Double playTime);
+
+    // 정답 수는 변화량으로 반영 (다른 인스턴스에서 들어온 답안과 덮어쓰지 않도록)
+    void addProgress(@Param("id") Long id,
+                     @Param("quizId") Long quizId,
+                     @Param("correctDelta") int correctDelta,
+                     @Param("playTime") Double playTime);
+
     void updatePlayTimeNow(@Param("id") Long id, @Param("quizId") Long quizId, @Param("now") LocalDateTime now);
 
 
@@ -1,14 +1,20 @@
 package com.problemio.submission.service;
 
+import com.problemio.challenge.live.LiveLeaderboard;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.domain.Question;
-import com.problemio.quiz.domain.QuestionAnswer;
-import com.problemio.quiz.mapper.QuestionAnswerMapper;
-import com.problemio.quiz.mapper.QuestionMapper;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.quiz.catalog.QuizQuestions;
 import com.problemio.quiz.mapper.QuizMapper;
+import com.problemio.ranking.rollup.DailyStatsRecorder;
 import com.problemio.submission.domain.Submission;
 import com.problemio.submission.domain.SubmissionDetail;
+import com.problemio.submission.engine.AnswerIndex;
+import com.problemio.submission.engine.BufferedSubmissionStore;
+import com.problemio.submission.engine.CompiledQuiz;
+import com.problemio.submission.engine.SubmissionState;
+import com.problemio.submission.engine.SubmissionStateStore;
 import com.problemio.submission.dto.QuizAnswerResponse;
 import com.problemio.submission.dto.QuizPlayContextResponse;
 import com.problemio.submission.dto.QuizSubmissionRequest;
@@ -16,15 +22,10 @@ import com.problemio.submission.dto.QuizSubmissionResponse;
 import com.problemio.submission.mapper.SubmissionDetailMapper;
 import com.problemio.submission.mapper.SubmissionMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Locale;
 
 import com.problemio.global.util.TimeUtils;
 
@@ -35,9 +36,12 @@ public class SubmissionServiceImpl implements SubmissionService {
     private final SubmissionMapper submissionMapper;
     private final SubmissionDetailMapper submissionDetailMapper;
     private final QuizMapper quizMapper;
-    private final QuestionMapper questionMapper;
-    private final QuestionAnswerMapper questionAnswerMapper;
-    private final CacheManager cacheManager;
+    private final QuestionCatalog questionCatalog;
+    private final AnswerIndex answerIndex;
+    private final SubmissionStateStore submissionStateStore;
+    private final BufferedSubmissionStore bufferedSubmissionStore;
+    private final DailyStatsRecorder dailyStatsRecorder;
+    private final LiveLeaderboard liveLeaderboard;
 
     @Override
     @Transactional(readOnly = true)
@@ -45,10 +49,11 @@ public class SubmissionServiceImpl implements SubmissionService {
         var quiz = quizMapper.findById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        List<Question> questions = questionMapper.findByQuizId(quizId);
+        QuizQuestions catalog = questionCatalog.get(quizId);
+        List<Question> questions = catalog.getQuestions();
 
-        // 미리 캐시에 로드
-        preloadQuestionCaches(questions, quizId);
+        // 채점 인덱스 미리 적재
+        answerIndex.preload(catalog);
 
         List<QuizPlayContextResponse.QuestionDto> questionDtos = questions.stream()
                 .map(q -> QuizPlayContextResponse.QuestionDto.builder()
@@ -72,58 +77,77 @@ public class SubmissionServiceImpl implements SubmissionService {
     @Override
     @Transactional
     public QuizAnswerResponse submitQuiz(Long quizId, Long userIdOrNull, QuizSubmissionRequest request) {
-        // 퀴즈 존재 여부 확인
-        quizMapper.findById(quizId).orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
+        // 채점 인덱스 조회 (퀴즈 존재 여부 포함, 캐시 적중 시 DB 조회 없음)
+        CompiledQuiz compiledQuiz = answerIndex.get(quizId);
+        CompiledQuiz.CompiledQuestion question = compiledQuiz.question(request.getQuestionId());
+        if (question == null) {
+            throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
+        }
+
+        boolean correct = question.isCorrect(request.getAnswerText());
 
-        // 문제 검증 및 정답 목록 조회
-        Question question = getQuestionCached(request.getQuestionId());
-        if (!question.getQuizId().equals(quizId)) {
+        SubmissionState state = resolveSubmission(quizId, userIdOrNull, request.getSubmissionId(),
+                request.getTotalQuestions(), compiledQuiz);
+        if (!state.getQuizId().equals(quizId)) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        List<QuestionAnswer> answers = getQuestionAnswersCached(request.getQuestionId());
-        boolean correct = isAnswerCorrect(request.getAnswerText(), answers);
-
-        Submission submission = resolveSubmission(quizId, userIdOrNull, request.getSubmissionId(), request.getTotalQuestions());
-
-        SubmissionDetail detail = new SubmissionDetail();
-        detail.setSubmissionId(submission.getId());
-        detail.setQuestionId(question.getId());
-        detail.setCorrect(correct);
-        submissionDetailMapper.insertSubmissionDetail(detail);
-
-        int correctCount = submissionDetailMapper.countCorrectBySubmissionId(submission.getId());
-        
-        // Java에서 플레이 시간 업데이트
-        LocalDateTime now = TimeUtils.now();
-        double playTime = 0.0;
-        if (submission.getSubmittedAt() != null) {
-            java.time.Duration duration = java.time.Duration.between(submission.getSubmittedAt(), now);
-            playTime = duration.getSeconds() + (duration.getNano() / 1_000_000_000.0);
+        // 비회원 버퍼 모드: 메모리에만 기록하고 마지막 문제에서 한 번에 저장
+        if (state.isBuffered()) {
+            if (state.recordIfOpen(question.getId(), correct)) {
+                if (state.isFinished()) {
+                    bufferedSubmissionStore.complete(state);
+                }
+                return buildAnswerResponse(state, question, correct, state.getAnsweredCount(), state.getCorrectCount());
+            }
+            // 이미 저장된 세션이면 DB 기준 상태로 이어서 처리
+            state = submissionStateStore.get(state.getSubmissionId());
         }
-        
-        submissionMapper.updatePlayTime(submission.getId(), quizId, playTime);
-        submissionMapper.updateCorrectCount(submission.getId(), quizId, correctCount);
 
-        int answeredCount = submissionDetailMapper.countBySubmissionId(submission.getId());
-        submission.setCorrectCount(correctCount);
+        // 롤백(커밋 실패 포함) 시 메모리 상태를 버리고 다음 요청에서 DB 기준으로 복원
+        submissionStateStore.evictOnRollback(state.getSubmissionId());
+
+        // 메모리 집계만 락 안에서 수행 (DB 왕복은 락 밖)
+        int delta;
+        int answeredCount;
+        int correctCount;
+        synchronized (state) {
+            delta = state.record(question.getId(), correct);
+            answeredCount = state.getAnsweredCount();
+            correctCount = state.getCorrectCount();
+        }
+        double playTime = state.playTimeAt(TimeUtils.now());
+
+        try {
+            SubmissionDetail detail = new SubmissionDetail();
+            detail.setSubmissionId(state.getSubmissionId());
+            detail.setQuestionId(question.getId());
+            detail.setCorrect(correct);
+            submissionDetailMapper.insertSubmissionDetail(detail);
+
+            // 정답 수는 변화량으로 반영해 다른 인스턴스의 반영분을 덮어쓰지 않음
+            submissionMapper.addProgress(state.getSubmissionId(), quizId, delta, playTime);
+            dailyStatsRecorder.recordCorrectDelta(state.getUserId(), state.getStartedAt(), delta);
+            liveLeaderboard.record(state.getChallengeId(), state.getUserId(), state.getSubmissionId(),
+                    correctCount, playTime, state.getStartedAt());
+        } catch (RuntimeException e) {
+            // 트랜잭션 밖에서 호출된 경우 대비
+            submissionStateStore.evict(state.getSubmissionId());
+            throw e;
+        }
 
-        return QuizAnswerResponse.builder()
-                .submissionId(submission.getId())
-                .questionId(question.getId())
-                .correct(correct)
-                .correctAnswer(answers.isEmpty() ? null : answers.get(0).getAnswerText())
-                .correctAnswers(answers.stream().map(QuestionAnswer::getAnswerText).toList())
-                .imageUrl(question.getImageUrl())
-                .totalQuestions(submission.getTotalQuestions())
-                .answeredCount(answeredCount)
-                .correctCount(correctCount)
-                .build();
+        return buildAnswerResponse(state, question, correct, answeredCount, correctCount);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public QuizSubmissionResponse getSubmissionResult(Long submissionId) {
+        // 버퍼에 남은 답안이 있으면 먼저 저장 (중도 종료 후 결과 조회)
+        SubmissionState buffered = bufferedSubmissionStore.get(submissionId);
+        if (buffered != null) {
+            bufferedSubmissionStore.complete(buffered);
+        }
+
         Submission submission = submissionMapper.findById(submissionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
 
@@ -137,11 +161,10 @@ public class SubmissionServiceImpl implements SubmissionService {
                 .build();
     }
 
-    private Submission resolveSubmission(Long quizId, Long userIdOrNull, Long submissionId, Integer requestedTotal) {
+    private SubmissionState resolveSubmission(Long quizId, Long userIdOrNull, Long submissionId,
+                                              Integer requestedTotal, CompiledQuiz compiledQuiz) {
         if (submissionId == null) {
-            int totalQuestions = requestedTotal != null
-                    ? requestedTotal
-                    : questionMapper.findByQuizId(quizId).size();
+            int totalQuestions = requestedTotal != null ? requestedTotal : compiledQuiz.size();
 
             Submission submission = new Submission();
             submission.setQuizId(quizId);
@@ -150,73 +173,44 @@ public class SubmissionServiceImpl implements SubmissionService {
             submission.setCorrectCount(0);
             submission.setSubmittedAt(TimeUtils.now());
             submissionMapper.insertSubmission(submission);
-            return submission;
+            if (userIdOrNull == null && bufferedSubmissionStore.isEnabled()) {
+                return bufferedSubmissionStore.register(submission);
+            }
+            dailyStatsRecorder.recordStarted(userIdOrNull, quizId, totalQuestions, submission.getSubmittedAt());
+            return submissionStateStore.register(submission);
         }
 
-        // 기존 제출 이력 조회 (제출 시간 확인용)
-        Submission submission = submissionMapper.findById(submissionId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
-        
-        // 필요 시 총 문항 수 업데이트?
-        if (requestedTotal != null && !requestedTotal.equals(submission.getTotalQuestions())) {
-            // submission.setTotalQuestions(requestedTotal); // Not persisting this update for now as it's not critical
+        // 진행 중인 버퍼 세션 -> 메모리 상태 -> DB 복원 순으로 조회
+        SubmissionState buffered = bufferedSubmissionStore.get(submissionId);
+        if (buffered != null) {
+            return buffered;
         }
-        
-        return submission;
+        return submissionStateStore.get(submissionId);
     }
 
-    private boolean isAnswerCorrect(String userAnswer, List<QuestionAnswer> answers) {
-        String normalizedUser = normalize(userAnswer);
-        return answers.stream()
-                .map(QuestionAnswer::getAnswerText)
-                .map(this::normalize)
-                .anyMatch(ans -> ans.equals(normalizedUser));
-    }
-
-    @Cacheable(cacheNames = "question", key = "#questionId", sync = true)
-    private Question getQuestionCached(Long questionId) {
-        return questionMapper.findById(questionId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
-    }
-
-    @Cacheable(cacheNames = "questionAnswers", key = "#questionId", sync = true)
-    private List<QuestionAnswer> getQuestionAnswersCached(Long questionId) {
-        return questionAnswerMapper.findByQuestionId(questionId);
-    }
-
-    private String normalize(String value) {
-        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    private QuizAnswerResponse buildAnswerResponse(SubmissionState state,
+                                                   CompiledQuiz.CompiledQuestion question,
+                                                   boolean correct,
+                                                   int answeredCount,
+                                                   int correctCount) {
+        List<String> answerTexts = question.getAnswerTexts();
+        return QuizAnswerResponse.builder()
+                .submissionId(state.getSubmissionId())
+                .questionId(question.getId())
+                .correct(correct)
+                .correctAnswer(answerTexts.isEmpty() ? null : answerTexts.get(0))
+                .correctAnswers(answerTexts)
+                .imageUrl(question.getImageUrl())
+                .totalQuestions(state.getTotalQuestions())
+                .answeredCount(answeredCount)
+                .correctCount(correctCount)
+                .build();
     }
 
-    private void preloadQuestionCaches(List<Question> questions, Long quizId) {
-        Cache questionCache = cacheManager.getCache("question");
-        Cache answerCache = cacheManager.getCache("questionAnswers");
-        if (questionCache == null || answerCache == null) {
-            return;
-        }
-
-        // 질문 캐시 채우기
-        for (Question q : questions) {
-            questionCache.put(q.getId(), q);
-        }
-
-        // 퀴즈 단위로 정답을 한 번에 조회해 캐시에 채움
-        List<QuestionAnswer> answers = questionAnswerMapper.findByQuizId(quizId);
-        // 문제 ID별 리스트 구성
-        java.util.Map<Long, java.util.List<QuestionAnswer>> grouped = new java.util.HashMap<>();
-        for (QuestionAnswer a : answers) {
-            grouped.computeIfAbsent(a.getQuestionId(), k -> new java.util.ArrayList<>()).add(a);
-        }
-        // 캐시에 저장 (빈 정답도 빈 리스트로 처리하여 캐시 미스 방지)
-        for (Question q : questions) {
-            java.util.List<QuestionAnswer> list = grouped.getOrDefault(q.getId(), java.util.List.of());
-            answerCache.put(q.getId(), list);
-        }
-    }
     @Override
     @Transactional
     public Long createSubmission(Long quizId, Long userId, Long challengeId) {
-        int totalQuestions = questionMapper.findByQuizId(quizId).size();
+        int totalQuestions = questionCatalog.get(quizId).size();
 
         Submission submission = new Submission();
         submission.setQuizId(quizId);
@@ -228,6 +222,9 @@ public class SubmissionServiceImpl implements SubmissionService {
         submission.setPlayTime(0.0);
 
         submissionMapper.insertSubmission(submission);
+        submissionStateStore.register(submission);
+        dailyStatsRecorder.recordStarted(userId, quizId, totalQuestions, submission.getSubmittedAt());
+        liveLeaderboard.record(challengeId, userId, submission.getId(), 0, 0.0, submission.getSubmittedAt());
         return submission.getId();
     }
 }
@@ -56,10 +56,9 @@ public class UserAuthController {
 
     // 로그아웃
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal UserDetails userDetails) {
-        if (userDetails != null) {
-            userAuthService.logout(userDetails.getUsername());
-        }
+    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal UserDetails userDetails,
+                                                    @CookieValue(value = "refreshToken", required = false) String refreshToken) {
+        userAuthService.logout(userDetails != null ? userDetails.getUsername() : null, refreshToken);
 
         ResponseCookie clearCookie = ResponseCookie.from("refreshToken", "")
                 .httpOnly(true)
@@ -80,7 +79,7 @@ public class UserAuthController {
         System.out.println("DEBUG: Reissue requested. RefreshToken: " + (refreshToken == null ? "NULL" : refreshToken.substring(0, Math.min(10, refreshToken.length())) + "..."));
         TokenResponse tokens = userAuthService.reissue(refreshToken);
 
-        // refreshToken 재설정 (만료 임박 대비)
+        // 회전된 refreshToken 으로 교체
         ResponseCookie refreshCookie = ResponseCookie.from("refreshToken", tokens.getRefreshToken())
                 .httpOnly(true)
                 .secure(true) // HTTPS 배포 환경이므로 true로 설정
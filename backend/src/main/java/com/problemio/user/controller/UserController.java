@@ -2,6 +2,7 @@ package com.problemio.user.controller;
 
 import com.problemio.global.auth.CustomUserDetails;
 import com.problemio.global.common.ApiResponse;
+import com.problemio.global.dto.CursorResponse;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.quiz.dto.QuizSummaryDto;
@@ -148,6 +149,28 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
+    // 팔로우한 유저들의 퀴즈 목록 커서 조회
+    @GetMapping("/me/quizzes/followings/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<QuizSummaryDto>>> scrollQuizzesOfFollowings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = requireLogin(userDetails);
+        return ResponseEntity.ok(ApiResponse.success(quizService.scrollQuizzesOfFollowings(userId, cursor, size)));
+    }
+
+    // 좋아요한 퀴즈 목록 커서 조회
+    @GetMapping("/me/quizzes/liked/scroll")
+    public ResponseEntity<ApiResponse<CursorResponse<QuizSummaryDto>>> scrollLikedQuizzes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = requireLogin(userDetails);
+        return ResponseEntity.ok(ApiResponse.success(quizService.scrollLikedQuizzes(userId, cursor, size)));
+    }
+
     // 특정 유저의 다른 퀴즈 목록 조회
     @GetMapping("/{userId}/quizzes")
     public ResponseEntity<ApiResponse<List<QuizSummaryDto>>> getUserQuizzes(
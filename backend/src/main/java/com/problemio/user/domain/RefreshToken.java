@@ -1,7 +1,9 @@
 package com.problemio.user.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -9,10 +11,16 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class RefreshToken {
     private Long id;
     private Long userId;
-    private String tokenValue;
+    private String tokenHash;     // 원문 토큰의 SHA-256 (hex)
+    private String familyId;      // 로그인(기기) 단위 묶음
     private LocalDateTime expiresAt;
+    private LocalDateTime rotatedAt; // 새 토큰으로 교체된 시각 (null 이면 현재 토큰)
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+
+    private User user; // 재발급 조회 시 함께 읽는 토큰 주인
+}
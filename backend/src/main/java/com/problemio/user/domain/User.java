@@ -19,4 +19,5 @@ public class User {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String role; // ROLE_USER, ROLE_ADMIN
+    private int tokenVersion; // 비밀번호 변경/탈퇴 시 증가 (이전 Access Token 무효화)
 }
@@ -0,0 +1,78 @@
+package com.problemio.user.loader;
+
+import com.problemio.user.dto.UserResponse;
+import com.problemio.user.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 작성자/참여자 정보 일괄 로더
+ * - 목록 한 페이지에 필요한 유저 id 를 모아 userProfile 캐시에서 먼저 찾고, 없는 것만 findByIds 한 번으로 조회
+ * - 탈퇴 회원은 결과에서 빠짐 (findById 와 동일)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLoader {
+
+    static final String CACHE_NAME = "userProfile";
+
+    private final UserMapper userMapper;
+    private final CacheManager cacheManager;
+
+    public UserResponse load(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return loadAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * id -> 유저 (요청 순서 유지, 없는 id 는 제외)
+     */
+    public Map<Long, UserResponse> loadAll(Collection<Long> userIds) {
+        Map<Long, UserResponse> result = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return result;
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(userIds)) {
+            if (id == null) {
+                continue;
+            }
+            UserResponse cached = cache != null ? cache.get(id, UserResponse.class) : null;
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (UserResponse user : userMapper.findByIds(misses)) {
+                // 조회 결과 적재는 get(key, loader) 로 (put 은 변경으로 보고 다른 인스턴스에 무효화를 전파)
+                result.put(user.getId(), cache != null ? cache.get(user.getId(), () -> user) : user);
+            }
+        }
+        // 캐시 적중분과 조회분이 섞였으므로 요청 순서로 재정렬
+        Map<Long, UserResponse> ordered = new LinkedHashMap<>();
+        userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(result::containsKey)
+                .forEach(id -> ordered.put(id, result.get(id)));
+        return ordered;
+    }
+}
@@ -4,17 +4,30 @@ import com.problemio.user.domain.RefreshToken;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Mapper
 public interface RefreshTokenMapper {
 
-    // 토큰 저장 (기존에 해당 유저의 토큰이 있다면 덮어쓰거나, 삭제 후 insert)
+    // 토큰 저장
     void save(RefreshToken refreshToken);
 
-    // 토큰 값으로 조회 (유효성 검사용)
-    Optional<RefreshToken> findByTokenValue(@Param("tokenValue") String tokenValue);
+    // 토큰 해시로 조회 (탈퇴하지 않은 토큰 주인 포함)
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
 
-    // 유저 ID로 기존 토큰 삭제 (로그아웃 or 재로그인 시)
+    // 회전 처리 (이미 회전된 토큰이면 0)
+    int markRotated(@Param("id") Long id, @Param("rotatedAt") LocalDateTime rotatedAt);
+
+    // 같은 family 에서 keepId 를 제외한 회전된 토큰 삭제
+    void deleteRotatedByFamilyId(@Param("familyId") String familyId, @Param("keepId") Long keepId);
+
+    // family 전체 삭제 (로그아웃 or 재사용 감지)
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    // 유저 ID로 기존 토큰 삭제 (탈퇴 or 전체 로그아웃)
     void deleteByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 만료된 토큰 일괄 삭제 (limit 단위)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
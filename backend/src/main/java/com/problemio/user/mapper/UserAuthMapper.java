@@ -20,4 +20,10 @@ public interface UserAuthMapper {
 
     // 회원가입
     void insertUser(User user);
+
+    // 토큰 버전 조회 (탈퇴 회원은 null)
+    Integer findTokenVersion(@Param("id") Long id);
+
+    // 토큰 버전 증가
+    void increaseTokenVersion(@Param("id") Long id);
 }
\ No newline at end of file
@@ -12,8 +12,8 @@ public interface UserAuthService {
     // 로그인
     TokenResponse login(UserLoginRequest request);
 
-    // 로그아웃
-    void logout(String email);
+    // 로그아웃 (refreshToken 이 있으면 해당 기기만)
+    void logout(String email, String refreshToken);
 
     // 토큰 재발급
     TokenResponse reissue(String refreshToken);
@@ -3,15 +3,13 @@ package com.problemio.user.service;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.global.jwt.JwtTokenProvider;
-import com.problemio.user.domain.RefreshToken;
 import com.problemio.user.domain.User;
 import com.problemio.user.dto.TokenResponse;
 import com.problemio.user.dto.UserLoginRequest;
 import com.problemio.user.dto.UserResponse;
 import com.problemio.user.dto.UserSignupRequest;
-import com.problemio.user.mapper.RefreshTokenMapper;
 import com.problemio.user.mapper.UserAuthMapper;
-import com.problemio.global.util.TimeUtils;
+import com.problemio.user.token.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -22,13 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAuthServiceImpl implements UserAuthService {
 
     private final UserAuthMapper userAuthMapper;
-    private final RefreshTokenMapper refreshTokenMapper;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
 
+    /**
+     * 해싱 대기 중 커넥션을 잡지 않도록 트랜잭션 없이 처리 (쓰기는 insert 한 번)
+     */
     @Override
-    @Transactional
     public UserResponse signup(UserSignupRequest request) {
         if (userAuthMapper.findByEmail(request.getEmail()).isPresent()) {
             throw new BusinessException(ErrorCode.EMAIL_DUPLICATED);
@@ -65,8 +65,10 @@ public class UserAuthServiceImpl implements UserAuthService {
                 .build();
     }
 
+    /**
+     * 비밀번호 확인 중 커넥션을 잡지 않도록 트랜잭션 없이 처리 (쓰기는 토큰 insert 한 번)
+     */
     @Override
-    @Transactional
     public TokenResponse login(UserLoginRequest request) {
         User user = userAuthMapper.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_LOGIN));
@@ -79,49 +81,41 @@ public class UserAuthServiceImpl implements UserAuthService {
             throw new BusinessException(ErrorCode.INVALID_LOGIN);
         }
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
-
-        refreshTokenMapper.deleteByUserId(user.getId());
-        refreshTokenMapper.save(RefreshToken.builder()
-                .userId(user.getId())
-                .tokenValue(refreshToken)
-                .expiresAt(TimeUtils.now().plusWeeks(2))
-                .build());
+        // 기기(로그인)마다 새 family 발급, 다른 기기의 토큰은 유지
+        String accessToken = jwtTokenProvider.createAccessToken(user);
+        String refreshToken = refreshTokenStore.issue(user.getId());
 
         return new TokenResponse(accessToken, refreshToken);
     }
 
     @Override
     @Transactional
-    public void logout(String email) {
+    public void logout(String email, String refreshToken) {
+        // 쿠키가 있으면 해당 기기만, 없으면 모든 기기 로그아웃
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenStore.revoke(refreshToken);
+            return;
+        }
+        if (email == null) {
+            return;
+        }
         User user = userAuthMapper.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        refreshTokenMapper.deleteByUserId(user.getId());
+        refreshTokenStore.revokeAll(user.getId());
     }
 
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = BusinessException.class) // 재사용 감지 시 family 폐기는 커밋
     public TokenResponse reissue(String refreshToken) {
         if (refreshToken == null || refreshToken.isBlank()) {
             System.out.println("DEBUG: Reissue failed - Token is null/blank");
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            System.out.println("DEBUG: Reissue failed - Token validation failed");
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
-        }
-        RefreshToken dbToken = refreshTokenMapper.findByTokenValue(refreshToken)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
-
-        User user = userAuthMapper.findById(dbToken.getUserId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (user.isDeleted()) {
-            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
-        }
+        // 해시 조회 한 번으로 토큰 + 주인 확인 후 회전
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(refreshToken);
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(user.getEmail());
-        return new TokenResponse(newAccessToken, refreshToken);
+        String newAccessToken = jwtTokenProvider.createAccessToken(rotation.user());
+        return new TokenResponse(newAccessToken, rotation.refreshToken());
     }
-}
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.problemio.user.service;
 import com.problemio.comment.mapper.CommentLikeMapper;
 import com.problemio.comment.mapper.CommentMapper;
 import com.problemio.follow.mapper.FollowMapper;
+import com.problemio.global.auth.TokenVersionStore;
 import com.problemio.global.exception.BusinessException;
 import com.problemio.global.exception.ErrorCode;
 import com.problemio.global.service.S3Service;
@@ -17,15 +18,16 @@ import com.problemio.user.domain.User;
 import com.problemio.user.dto.UserPopoverResponse;
 import com.problemio.user.dto.UserResponse;
 import com.problemio.user.dto.UserSummaryDto;
-import com.problemio.user.mapper.RefreshTokenMapper;
 import com.problemio.user.mapper.UserAuthMapper;
 import com.problemio.user.mapper.UserMapper;
+import com.problemio.user.token.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -54,8 +56,10 @@ public class UserServiceImpl implements UserService {
     private final FollowMapper followMapper;
     private final SubmissionMapper submissionMapper;
     private final SubmissionDetailMapper submissionDetailMapper;
-    private final RefreshTokenMapper refreshTokenMapper;
+    private final RefreshTokenStore refreshTokenStore;
     private final CacheManager cacheManager;
+    private final TokenVersionStore tokenVersionStore;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional(readOnly = true)
@@ -133,8 +137,10 @@ public class UserServiceImpl implements UserService {
         return getUserById(userId);
     }
 
+    /**
+     * 비밀번호 검증/해싱은 트랜잭션 밖에서 수행 (해싱 대기 중 커넥션을 잡고 있지 않도록)
+     */
     @Override
-    @Transactional
     public void changePassword(Long userId, String oldPassword, String newPassword) {
         User user = userAuthMapper.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -144,12 +150,19 @@ public class UserServiceImpl implements UserService {
         }
 
         String encodedPassword = passwordEncoder.encode(newPassword);
-        userMapper.updatePassword(userId, encodedPassword, TimeUtils.now());
-        evictUserCaches(user.getEmail(), userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            userMapper.updatePassword(userId, encodedPassword, TimeUtils.now());
+            // 다른 기기의 Access Token 과 Refresh Token 모두 폐기 (재발급으로 세션이 이어지지 않도록)
+            refreshTokenStore.revokeAll(userId);
+            tokenVersionStore.revoke(userId);
+            evictUserCaches(user.getEmail(), userId);
+        });
     }
 
+    /**
+     * 비밀번호 확인은 트랜잭션 밖에서 수행
+     */
     @Override
-    @Transactional
     public void deleteAccount(Long userId, String password) {
         User user = userAuthMapper.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -158,13 +171,17 @@ public class UserServiceImpl implements UserService {
             throw new BusinessException(ErrorCode.INVALID_LOGIN);
         }
 
-        refreshTokenMapper.deleteByUserId(userId);
+        transactionTemplate.executeWithoutResult(status -> deleteUserData(userId, user.getEmail()));
+    }
+
+    private void deleteUserData(Long userId, String email) {
+        refreshTokenStore.revokeAll(userId);
         followMapper.deleteByUserId(userId);
 
         List<Long> likedQuizIds = quizLikeMapper.findQuizIdsByUserId(userId);
         if (!likedQuizIds.isEmpty()) {
             quizLikeMapper.deleteByUserId(userId);
-            likedQuizIds.forEach(quizMapper::decrementLikeCount);
+            quizMapper.decrementLikeCounts(likedQuizIds);
         }
 
         List<Long> likedCommentIds = commentLikeMapper.findLikedCommentIdsByUser(userId);
@@ -183,11 +200,12 @@ public class UserServiceImpl implements UserService {
             quizService.deleteQuiz(userId, quiz.getId());
         }
 
-        evictUserCaches(user.getEmail(), userId);
+        evictUserCaches(email, userId);
 
         String tombstone = "deleted_" + UUID.randomUUID();
         userMapper.anonymizeCredentials(userId, tombstone + "@deleted.local", tombstone, TimeUtils.now());
         userMapper.deleteUser(userId, TimeUtils.now());
+        tokenVersionStore.revoke(userId);
     }
 
     @Override
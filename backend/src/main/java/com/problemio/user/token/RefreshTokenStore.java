@@ -0,0 +1,149 @@
+package com.problemio.user.token;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.user.domain.RefreshToken;
+import com.problemio.user.domain.User;
+import com.problemio.user.mapper.RefreshTokenMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Refresh Token 저장소
+ * - 원문 대신 SHA-256 해시만 저장하고, 재발급은 해시 유니크 인덱스 한 번 조회로 처리
+ * - 로그인(기기)마다 family 를 새로 만들어 여러 기기 동시 로그인 허용
+ * - 재발급 시 토큰을 회전하고, 이미 회전된 토큰이 다시 들어오면 탈취로 보고 family 전체 폐기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenMapper refreshTokenMapper;
+
+    @Value("${jwt.refresh-token.validity-days:14}")
+    private long validityDays;
+
+    // 여러 탭이 동시에 재발급하는 경우는 탈취로 보지 않음
+    @Value("${jwt.refresh-token.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds;
+
+    @Value("${jwt.refresh-token.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    /**
+     * 로그인 시 새 family 로 토큰 발급
+     */
+    public String issue(Long userId) {
+        return save(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 토큰 회전: 현재 토큰을 회전 처리하고 같은 family 로 새 토큰 발급
+     * - 재사용 감지 시 family 를 삭제하므로 호출 측 트랜잭션은 BusinessException 에 롤백하지 않아야 함
+     */
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenMapper.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
+
+        LocalDateTime now = TimeUtils.now();
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        if (current.getRotatedAt() != null || refreshTokenMapper.markRotated(current.getId(), now) == 0) {
+            LocalDateTime rotatedAt = current.getRotatedAt() != null ? current.getRotatedAt() : now;
+            if (rotatedAt.plusSeconds(reuseGraceSeconds).isBefore(now)) {
+                log.warn("[RefreshToken] reuse detected, revoking family={} userId={}",
+                        current.getFamilyId(), current.getUserId());
+                refreshTokenMapper.deleteByFamilyId(current.getFamilyId());
+            }
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+
+        // 재사용 감지용으로 방금 회전한 토큰만 남김
+        refreshTokenMapper.deleteRotatedByFamilyId(current.getFamilyId(), current.getId());
+        String next = save(current.getUserId(), current.getFamilyId());
+        return new Rotation(current.getUser(), next);
+    }
+
+    /**
+     * 토큰이 속한 family 폐기 (해당 기기 로그아웃)
+     */
+    public void revoke(String rawToken) {
+        refreshTokenMapper.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenMapper.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    /**
+     * 유저의 모든 기기 로그아웃
+     */
+    public void revokeAll(Long userId) {
+        refreshTokenMapper.deleteByUserId(userId);
+    }
+
+    /**
+     * 만료된 토큰 일괄 삭제 (한 번에 긴 락을 잡지 않도록 batch 단위 반복)
+     */
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 50 4 * * *}")
+    public void deleteExpired() {
+        int batch = Math.max(cleanupBatchSize, 1);
+        LocalDateTime now = TimeUtils.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenMapper.deleteExpired(now, batch);
+            total += deleted;
+        } while (deleted == batch);
+
+        if (total > 0) {
+            log.info("[RefreshToken] deleted {} expired tokens", total);
+        }
+    }
+
+    private String save(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenMapper.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(TimeUtils.now().plus(Duration.ofDays(validityDays)))
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * SHA-256 hex (db/007 의 SHA2(token_value, 256) 과 같은 형식)
+     */
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- 키셋(커서) 페이지네이션용 복합 인덱스
+-- 정렬 컬럼 + id 순서로 두어 "정렬키 < 커서 OR (정렬키 = 커서 AND id < 커서 id)" 조건과 ORDER BY 를 인덱스 범위 스캔으로 처리한다.
+
+-- 퀴즈 목록: 최신순 / 인기순 / 조회순
+CREATE INDEX idx_quizzes_created_id ON quizzes (created_at, id);
+CREATE INDEX idx_quizzes_like_play_id ON quizzes (like_count, play_count, id);
+CREATE INDEX idx_quizzes_play_like_id ON quizzes (play_count, like_count, id);
+
+-- 팔로우 피드: 작성자별 최신순
+CREATE INDEX idx_quizzes_user_created_id ON quizzes (user_id, created_at, id);
+
+-- 좋아요한 퀴즈: 좋아요 시각 순
+CREATE INDEX idx_quiz_likes_user_created_quiz ON quiz_likes (user_id, created_at, quiz_id);
+
+-- 퀴즈별 루트 댓글: 최신순
+CREATE INDEX idx_comments_quiz_parent_created_id ON comments (quiz_id, parent_comment_id, created_at, id);
@@ -0,0 +1,6 @@
+-- 퀴즈 키워드 검색용 FULLTEXT 인덱스 (한국어 부분 일치를 위해 ngram parser 사용)
+-- ngram 토큰 크기는 서버 설정 ngram_token_size(기본 2)를 따르며, quiz.search.ngram-size 와 맞춰야 한다.
+-- 인덱스를 만들 수 없는 환경에서는 quiz.search.engine=like 로 기존 LIKE 검색을 사용한다.
+
+ALTER TABLE quizzes
+    ADD FULLTEXT INDEX ft_quizzes_title_description (title, description) WITH PARSER ngram;
@@ -0,0 +1,39 @@
+-- 랭킹용 회원별 일간 집계 테이블
+-- 제출 시작/정답 반영 시 애플리케이션이 갱신하며, 랭킹은 submissions 대신 이 테이블에서 계산한다.
+
+CREATE TABLE IF NOT EXISTS user_daily_stats (
+    user_id           BIGINT   NOT NULL,
+    stat_date         DATE     NOT NULL,
+    total_correct     INT      NOT NULL DEFAULT 0,
+    total_questions   INT      NOT NULL DEFAULT 0,
+    last_submitted_at DATETIME(6) NULL,
+    PRIMARY KEY (user_id, stat_date),
+    KEY idx_user_daily_stats_date (stat_date, user_id)
+);
+
+-- 기간 내 푼 퀴즈 수(중복 제외) 계산용
+CREATE TABLE IF NOT EXISTS user_daily_quizzes (
+    user_id   BIGINT NOT NULL,
+    stat_date DATE   NOT NULL,
+    quiz_id   BIGINT NOT NULL,
+    PRIMARY KEY (user_id, stat_date, quiz_id),
+    KEY idx_user_daily_quizzes_date (stat_date, user_id)
+);
+
+-- 기존 제출 기록으로 초기 적재 (배포 시 1회)
+INSERT INTO user_daily_stats (user_id, stat_date, total_correct, total_questions, last_submitted_at)
+SELECT s.user_id, DATE(s.submitted_at), SUM(s.correct_count), SUM(s.total_questions), MAX(s.submitted_at)
+FROM submissions s
+WHERE s.user_id IS NOT NULL
+  AND s.submitted_at IS NOT NULL
+GROUP BY s.user_id, DATE(s.submitted_at)
+ON DUPLICATE KEY UPDATE
+    total_correct = VALUES(total_correct),
+    total_questions = VALUES(total_questions),
+    last_submitted_at = VALUES(last_submitted_at);
+
+INSERT IGNORE INTO user_daily_quizzes (user_id, stat_date, quiz_id)
+SELECT DISTINCT s.user_id, DATE(s.submitted_at), s.quiz_id
+FROM submissions s
+WHERE s.user_id IS NOT NULL
+  AND s.submitted_at IS NOT NULL;
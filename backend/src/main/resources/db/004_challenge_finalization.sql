@@ -0,0 +1,14 @@
+-- 챌린지 랭킹 확정 여부
+-- 종료된 챌린지는 스케줄러가 challenge_rankings 를 기록하면서 finalized_at 을 채운다.
+-- finalized_at 갱신(WHERE finalized_at IS NULL)이 중복 확정을 막는 잠금 역할을 한다.
+
+ALTER TABLE challenges
+    ADD COLUMN finalized_at DATETIME(6) NULL;
+
+CREATE INDEX idx_challenges_finalize ON challenges (finalized_at, end_at);
+
+-- 이미 아카이브가 있는 챌린지는 확정된 것으로 표시
+UPDATE challenges c
+SET c.finalized_at = NOW(6)
+WHERE c.finalized_at IS NULL
+  AND EXISTS (SELECT 1 FROM challenge_rankings cr WHERE cr.challenge_id = c.id);
@@ -0,0 +1,34 @@
+-- 댓글 수 / 대댓글 수 집계 컬럼
+-- 댓글 작성/삭제 시 애플리케이션이 같은 트랜잭션에서 갱신하며, 목록 조회는 GROUP BY 대신 이 컬럼을 읽는다.
+-- 탈퇴 회원 댓글은 익명화(user_id = NULL)되어 계속 노출되므로 개수에 그대로 포함된다.
+-- 어긋난 값은 CommentCountReconciler 가 주기적으로 보정한다.
+
+ALTER TABLE quizzes
+    ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE comments
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 초기 적재 (배포 시 1회)
+UPDATE quizzes q
+JOIN (
+    SELECT c.quiz_id, COUNT(*) AS cnt
+    FROM comments c
+    LEFT JOIN users u ON u.id = c.user_id
+    WHERE c.is_deleted = 0
+      AND (c.user_id IS NULL OR u.is_deleted = 0)
+    GROUP BY c.quiz_id
+) c ON c.quiz_id = q.id
+SET q.comment_count = c.cnt;
+
+UPDATE comments p
+JOIN (
+    SELECT c.parent_comment_id, COUNT(*) AS cnt
+    FROM comments c
+    LEFT JOIN users u ON u.id = c.user_id
+    WHERE c.parent_comment_id IS NOT NULL
+      AND c.is_deleted = 0
+      AND (c.user_id IS NULL OR u.is_deleted = 0)
+    GROUP BY c.parent_comment_id
+) r ON r.parent_comment_id = p.id
+SET p.reply_count = r.cnt;
@@ -0,0 +1,6 @@
+-- Access Token 무효화용 버전
+-- 토큰에 발급 시점의 token_version 을 담고, 비밀번호 변경/탈퇴 시 1 증가시켜 이전 토큰을 거부한다.
+-- (jwt.stateless-principal=true 일 때 JwtAuthenticationFilter 가 확인)
+
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
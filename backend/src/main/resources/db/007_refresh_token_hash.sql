@@ -0,0 +1,24 @@
+-- Refresh Token 을 원문 대신 SHA-256 해시로 저장
+-- token_hash: 원문 토큰의 SHA-256 (hex 64자), 재발급 시 고정 길이 유니크 인덱스 한 번으로 조회
+-- family_id: 로그인(기기) 단위 묶음, 회전된 토큰이 다시 쓰이면 같은 family 를 모두 폐기
+-- rotated_at: 새 토큰으로 교체된 시각 (재사용 감지용으로 직전 토큰 한 개만 남김)
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN token_hash CHAR(64) NULL,
+    ADD COLUMN family_id CHAR(36) NULL,
+    ADD COLUMN rotated_at DATETIME(6) NULL;
+
+-- 기존 토큰(쿠키에 남아 있는 JWT)도 그대로 재발급되도록 해시 채움
+UPDATE refresh_tokens
+SET token_hash = SHA2(token_value, 256),
+    family_id  = UUID()
+WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens
+    MODIFY token_hash CHAR(64) NOT NULL,
+    MODIFY family_id CHAR(36) NOT NULL,
+    DROP COLUMN token_value;
+
+CREATE UNIQUE INDEX uk_refresh_tokens_hash ON refresh_tokens (token_hash);
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens (expires_at);
@@ -0,0 +1,66 @@
+package com.problemio.challenge.catalog;
+
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChallengeCatalogTest {
+
+    @Mock private ChallengeMapper challengeMapper;
+
+    private ChallengeCatalog challengeCatalog;
+
+    @BeforeEach
+    void setUp() {
+        challengeCatalog = new ChallengeCatalog(new ConcurrentMapCacheManager("challenges"), challengeMapper);
+    }
+
+    @Test
+    @DisplayName("목록/단건 조회는 한 번 적재한 목록을 재사용한다")
+    void servesFromSingleLoad() {
+        when(challengeMapper.findAllWithTargetQuiz()).thenReturn(List.of(challenge(2L), challenge(1L)));
+
+        assertThat(challengeCatalog.findAll()).extracting(Challenge::getId).containsExactly(2L, 1L);
+        assertThat(challengeCatalog.get(1L).getId()).isEqualTo(1L);
+        assertThat(challengeCatalog.find(3L)).isEmpty();
+        assertThatThrownBy(() -> challengeCatalog.get(3L)).isInstanceOf(BusinessException.class);
+
+        verify(challengeMapper, times(1)).findAllWithTargetQuiz();
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 새로 추가된 챌린지를 다시 적재한다")
+    void reloadsAfterEvict() {
+        when(challengeMapper.findAllWithTargetQuiz())
+                .thenReturn(List.of(challenge(1L)))
+                .thenReturn(List.of(challenge(2L), challenge(1L)));
+        challengeCatalog.findAll();
+
+        challengeCatalog.evict();
+
+        assertThat(challengeCatalog.find(2L)).isPresent();
+        verify(challengeMapper, times(2)).findAllWithTargetQuiz();
+    }
+
+    private static Challenge challenge(Long id) {
+        Challenge challenge = new Challenge();
+        challenge.setId(id);
+        return challenge;
+    }
+}
@@ -0,0 +1,165 @@
+package com.problemio.challenge.finalize;
+
+import com.problemio.challenge.domain.ChallengeRanking;
+import com.problemio.challenge.live.LiveLeaderboard;
+import com.problemio.challenge.catalog.ChallengeCatalog;
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.submission.domain.Submission;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChallengeFinalizerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock private ChallengeMapper challengeMapper;
+    @Mock private ChallengeRankingMapper challengeRankingMapper;
+    @Mock private ChallengeCatalog challengeCatalog;
+    @Mock private LiveLeaderboard liveLeaderboard;
+    @Mock private TaskScheduler taskScheduler;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private ChallengeFinalizer finalizer;
+
+    @BeforeEach
+    void setUp() {
+        finalizer = new ChallengeFinalizer(challengeMapper, challengeRankingMapper, challengeCatalog, liveLeaderboard,
+                taskScheduler, transactionTemplate, eventPublisher, 1, 10);
+        ReflectionTestUtils.setField(finalizer, "chunkSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(challengeMapper.getLock("challenge-finalize:1", 0)).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        finalizer.shutdown();
+    }
+
+    @Test
+    @DisplayName("스트리밍으로 사용자별 최고 기록만 모아 청크 단위로 저장한다")
+    void finalizeChallenge_WritesBestPerUserInChunks() {
+        when(challengeMapper.markFinalized(eq(1L), any())).thenReturn(1);
+        doAnswer(invocation -> {
+            ResultHandler<Submission> handler = invocation.getArgument(1);
+            DefaultResultContext<Submission> context = new DefaultResultContext<>();
+            for (Submission s : List.of(
+                    submission(10L, 1L, 3, 30.0, 0),
+                    submission(11L, 1L, 5, 40.0, 1), // 사용자 1 최고 기록
+                    submission(12L, 2L, 5, 20.0, 2),
+                    submission(13L, 3L, 1, 10.0, 3))) {
+                context.nextResultObject(s);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(challengeRankingMapper).scanMemberSubmissionsByChallengeId(eq(1L), any());
+
+        assertThat(finalizer.finalizeChallenge(1L)).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ChallengeRanking>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(challengeRankingMapper, times(2)).insertRankings(chunks.capture());
+        List<ChallengeRanking> written = new ArrayList<>();
+        chunks.getAllValues().forEach(written::addAll);
+
+        assertThat(written).extracting(ChallengeRanking::getUserId).containsExactly(2L, 1L, 3L);
+        assertThat(written).extracting(ChallengeRanking::getRanking).containsExactly(1, 2, 3);
+        verify(challengeCatalog).evict();
+        verify(liveLeaderboard).evict(1L);
+        verify(challengeMapper).releaseLock("challenge-finalize:1");
+    }
+
+    @Test
+    @DisplayName("이미 확정된 챌린지는 다시 계산하지 않는다")
+    void finalizeChallenge_SkipsWhenAlreadyClaimed() {
+        when(challengeMapper.markFinalized(eq(1L), any())).thenReturn(0);
+
+        assertThat(finalizer.finalizeChallenge(1L)).isFalse();
+
+        verifyNoInteractions(challengeRankingMapper);
+        verify(liveLeaderboard, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 기다리지 않고 양보한다")
+    void finalizeChallenge_YieldsWhenLockedElsewhere() {
+        when(challengeMapper.getLock("challenge-finalize:1", 0)).thenReturn(0);
+
+        assertThat(finalizer.finalizeChallenge(1L)).isFalse();
+
+        verify(challengeMapper, never()).markFinalized(any(), any());
+        verify(challengeMapper, never()).releaseLock(any());
+    }
+
+    @Test
+    @DisplayName("진행 중인 확정 요청은 하나의 작업으로 합쳐지고 스케줄러가 아닌 전용 스레드에서 실행된다")
+    void request_CollapsesConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> worker = new AtomicReference<>();
+        when(challengeMapper.getLock("challenge-finalize:1", 0)).thenAnswer(invocation -> {
+            worker.set(Thread.currentThread().getName());
+            release.await(1, TimeUnit.SECONDS);
+            return 1;
+        });
+        when(challengeMapper.markFinalized(eq(1L), any())).thenReturn(1);
+
+        CompletableFuture<Boolean> first = finalizer.request(1L);
+        CompletableFuture<Boolean> second = finalizer.request(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).isNotDone();
+
+        release.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(worker.get()).startsWith("challenge-finalize-");
+        verify(challengeMapper, times(1)).markFinalized(eq(1L), any());
+        verifyNoInteractions(taskScheduler);
+
+        // 완료 후 요청은 새 작업으로 실행
+        assertThat(finalizer.request(1L)).isNotSameAs(first);
+    }
+
+    private Submission submission(Long id, Long userId, int correct, double playTime, int minute) {
+        Submission s = new Submission();
+        s.setId(id);
+        s.setUserId(userId);
+        s.setCorrectCount(correct);
+        s.setPlayTime(playTime);
+        s.setSubmittedAt(START.plusMinutes(minute));
+        return s;
+    }
+}
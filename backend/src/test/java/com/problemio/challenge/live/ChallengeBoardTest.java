@@ -0,0 +1,75 @@
+package com.problemio.challenge.live;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChallengeBoardTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("사용자별 최고 기록 하나만 순위에 반영한다")
+    void record_KeepsBestPerUser() {
+        ChallengeBoard board = new ChallengeBoard();
+        board.record(entry(1L, 10L, 3, 20.0, 0));
+        board.record(entry(1L, 11L, 5, 30.0, 1));
+        board.record(entry(2L, 20L, 4, 10.0, 2));
+
+        assertThat(board.size()).isEqualTo(2);
+        assertThat(board.best(1L).submissionId()).isEqualTo(11L);
+        assertThat(board.range(0, 10)).extracting(LiveEntry::userId).containsExactly(1L, 2L);
+        assertThat(board.rankOf(board.best(2L))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 제출의 갱신은 기록이 나빠져도 반영하고 늦게 도착한 이전 갱신은 무시한다")
+    void record_SameSubmissionProgress() {
+        ChallengeBoard board = new ChallengeBoard();
+        board.record(entry(1L, 10L, 2, 5.0, 0));
+        board.record(entry(1L, 11L, 1, 3.0, 1));
+
+        board.record(entry(1L, 10L, 1, 8.0, 0)); // 재응답으로 정답 수 감소
+        assertThat(board.best(1L).submissionId()).isEqualTo(11L);
+
+        board.record(entry(1L, 10L, 2, 6.0, 0)); // 이전 갱신이 늦게 도착
+        assertThat(board.best(1L).submissionId()).isEqualTo(11L);
+        assertThat(board.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("순위와 구간 조회는 전체 정렬 결과와 같다")
+    void rankAndRange_MatchSortedOrder() {
+        ChallengeBoard board = new ChallengeBoard();
+        Map<Long, LiveEntry> best = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            long userId = random.nextInt(300);
+            LiveEntry entry = entry(userId, (long) i, random.nextInt(10), random.nextInt(50), random.nextInt(100));
+            board.record(entry);
+            best.merge(userId, entry, (a, b) -> LiveEntry.BY_RECORD.compare(b, a) < 0 ? b : a);
+        }
+
+        List<LiveEntry> sorted = new ArrayList<>(best.values());
+        sorted.sort(LiveEntry.ORDER);
+
+        assertThat(board.range(0, sorted.size())).isEqualTo(sorted);
+        assertThat(board.range(37, 10)).isEqualTo(sorted.subList(37, 47));
+        for (LiveEntry entry : sorted) {
+            long better = sorted.stream().filter(o -> LiveEntry.BY_RECORD.compare(o, entry) < 0).count();
+            assertThat(board.rankOf(entry)).isEqualTo(better + 1);
+        }
+    }
+
+    private LiveEntry entry(Long userId, Long submissionId, int correct, double playTime, int minute) {
+        return new LiveEntry(userId, submissionId, correct, playTime, START.plusMinutes(minute));
+    }
+}
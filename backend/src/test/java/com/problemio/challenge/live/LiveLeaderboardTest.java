@@ -0,0 +1,89 @@
+package com.problemio.challenge.live;
+
+import com.problemio.challenge.catalog.ChallengeCatalog;
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.global.util.TimeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LiveLeaderboardTest {
+
+    @Mock private ChallengeRankingMapper challengeRankingMapper;
+    @Mock private ChallengeCatalog challengeCatalog;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LiveLeaderboard liveLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(liveLeaderboard, "maxBoards", 1);
+    }
+
+    @Test
+    @DisplayName("없는 챌린지와 확정된 챌린지는 보드를 만들지 않는다")
+    void unknownOrFinalized_NoBoard() {
+        when(challengeCatalog.find(1L)).thenReturn(Optional.empty());
+        when(challengeCatalog.find(2L)).thenReturn(Optional.of(challenge(2L, true)));
+
+        assertThat(liveLeaderboard.best(1L, 7L)).isNull();
+        assertThat(liveLeaderboard.range(2L, 0, 10)).isEmpty();
+        verify(challengeRankingMapper, never()).findSubmissionsByChallengeId(anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 확정되면 주기 정리 때 보드를 제거한다")
+    void sweep_RemovesFinalizedBoards() {
+        when(challengeCatalog.find(1L)).thenReturn(Optional.of(challenge(1L, false)));
+        when(challengeRankingMapper.findSubmissionsByChallengeId(1L)).thenReturn(List.of());
+        liveLeaderboard.range(1L, 0, 10);
+        liveLeaderboard.range(1L, 0, 10);
+        verify(challengeRankingMapper, times(1)).findSubmissionsByChallengeId(1L);
+
+        when(challengeCatalog.find(1L)).thenReturn(Optional.of(challenge(1L, true)));
+        liveLeaderboard.sweep();
+
+        when(challengeCatalog.find(1L)).thenReturn(Optional.of(challenge(1L, false)));
+        liveLeaderboard.range(1L, 0, 10);
+        verify(challengeRankingMapper, times(2)).findSubmissionsByChallengeId(1L);
+    }
+
+    @Test
+    @DisplayName("보드 수 상한을 넘으면 보관하지 않고 조회마다 재구성한다")
+    void maxBoards_DoesNotGrowMap() {
+        when(challengeCatalog.find(1L)).thenReturn(Optional.of(challenge(1L, false)));
+        when(challengeCatalog.find(2L)).thenReturn(Optional.of(challenge(2L, false)));
+        liveLeaderboard.range(1L, 0, 10);
+
+        liveLeaderboard.range(2L, 0, 10);
+        liveLeaderboard.range(2L, 0, 10);
+
+        verify(challengeRankingMapper, times(2)).findSubmissionsByChallengeId(2L);
+    }
+
+    private static Challenge challenge(Long id, boolean finalized) {
+        Challenge challenge = new Challenge();
+        challenge.setId(id);
+        challenge.setFinalizedAt(finalized ? TimeUtils.now() : null);
+        return challenge;
+    }
+}
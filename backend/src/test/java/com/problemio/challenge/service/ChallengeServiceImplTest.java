@@ -0,0 +1,109 @@
+package com.problemio.challenge.service;
+
+import com.problemio.challenge.catalog.ChallengeCatalog;
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.finalize.ChallengeFinalizer;
+import com.problemio.challenge.dto.ChallengeRankingResponse;
+import com.problemio.challenge.dto.ChallengeResultResponse;
+import com.problemio.challenge.live.LeaderboardCache;
+import com.problemio.challenge.live.LiveLeaderboard;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.submission.dto.QuizSubmissionRequest;
+import com.problemio.submission.engine.SubmissionState;
+import com.problemio.submission.engine.SubmissionStateStore;
+import com.problemio.submission.service.SubmissionService;
+import com.problemio.user.loader.UserLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChallengeServiceImplTest {
+
+    @Mock private ChallengeCatalog challengeCatalog;
+    @Mock private SubmissionService submissionService;
+    @Mock private SubmissionStateStore submissionStateStore;
+    @Mock private QuestionCatalog questionCatalog;
+    @Mock private ChallengeRankingMapper challengeRankingMapper;
+    @Mock private LiveLeaderboard liveLeaderboard;
+    @Mock private ChallengeFinalizer challengeFinalizer;
+    @Mock private LeaderboardCache leaderboardCache;
+    @Mock private UserLoader userLoader;
+
+    @InjectMocks
+    private ChallengeServiceImpl challengeService;
+
+    @Test
+    @DisplayName("타임어택 답안은 챌린지 목록과 진행 중 제출 상태만으로 검증한다")
+    void submitAnswer_UsesCatalogAndSubmissionState() {
+        when(challengeCatalog.get(1L)).thenReturn(timeAttack());
+        when(submissionStateStore.get(100L)).thenReturn(state(TimeUtils.now().minusSeconds(30)));
+
+        QuizSubmissionRequest request = request();
+
+        challengeService.submitAnswer(7L, 1L, request);
+
+        verify(submissionService).submitQuiz(10L, 7L, request);
+    }
+
+    @Test
+    @DisplayName("제한 시간(+5초)을 넘긴 답안은 거부한다")
+    void submitAnswer_RejectsAfterTimeLimit() {
+        when(challengeCatalog.get(1L)).thenReturn(timeAttack());
+        when(submissionStateStore.get(100L)).thenReturn(state(TimeUtils.now().minusSeconds(70)));
+
+        assertThatThrownBy(() -> challengeService.submitAnswer(7L, 1L, request()))
+                .isInstanceOf(BusinessException.class);
+        verify(submissionService, never()).submitQuiz(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("확정된 챌린지 결과는 아카이브에서 조회하고 라이브 보드를 만들지 않는다")
+    void getChallengeResult_Finalized_UsesArchive() {
+        Challenge challenge = timeAttack();
+        challenge.setFinalizedAt(TimeUtils.now());
+        when(challengeCatalog.get(1L)).thenReturn(challenge);
+        when(challengeRankingMapper.loginUserRanking(7L, 1L)).thenReturn(ChallengeRankingResponse.builder()
+                .ranking(3).score(4.0).playTime(12.5).build());
+
+        ChallengeResultResponse result = challengeService.getChallengeResult(7L, 1L);
+
+        assertThat(result.getRank()).isEqualTo(3);
+        assertThat(result.getCorrectCount()).isEqualTo(4);
+        verifyNoInteractions(liveLeaderboard);
+    }
+
+    private static Challenge timeAttack() {
+        Challenge challenge = new Challenge();
+        challenge.setId(1L);
+        challenge.setChallengeType("TIME_ATTACK");
+        challenge.setTargetQuizId(10L);
+        challenge.setTimeLimit(60);
+        return challenge;
+    }
+
+    private static SubmissionState state(java.time.LocalDateTime startedAt) {
+        return new SubmissionState(100L, 10L, 7L, 1L, startedAt, 5, false);
+    }
+
+    private static QuizSubmissionRequest request() {
+        QuizSubmissionRequest request = new QuizSubmissionRequest();
+        request.setSubmissionId(100L);
+        request.setQuestionId(3L);
+        return request;
+    }
+}
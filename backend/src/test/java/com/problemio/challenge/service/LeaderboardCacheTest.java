@@ -0,0 +1,112 @@
+package com.problemio.challenge.service;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.problemio.challenge.catalog.ChallengeCatalog;
+import com.problemio.challenge.domain.Challenge;
+import com.problemio.challenge.dto.LeaderboardSnapshot;
+import com.problemio.challenge.finalize.ChallengeFinalizer;
+import com.problemio.challenge.live.LeaderboardCache;
+import com.problemio.challenge.live.LeaderboardChangedEvent;
+import com.problemio.challenge.live.LiveLeaderboard;
+import com.problemio.challenge.mapper.ChallengeMapper;
+import com.problemio.challenge.mapper.ChallengeRankingMapper;
+import com.problemio.global.config.CacheConfig;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.submission.engine.SubmissionStateStore;
+import com.problemio.submission.service.SubmissionService;
+import com.problemio.user.loader.UserLoader;
+import com.problemio.user.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, LeaderboardCache.class, ChallengeServiceImpl.class, UserLoader.class, ChallengeCatalog.class})
+class LeaderboardCacheTest {
+
+    @Autowired private ChallengeService challengeService;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+
+    @MockitoBean private ChallengeMapper challengeMapper;
+    @MockitoBean private SubmissionService submissionService;
+    @MockitoBean private SubmissionStateStore submissionStateStore;
+    @MockitoBean private QuestionCatalog questionCatalog;
+    @MockitoBean private ChallengeRankingMapper challengeRankingMapper;
+    @MockitoBean private LiveLeaderboard liveLeaderboard;
+    @MockitoBean private UserMapper userMapper;
+    @MockitoBean private ChallengeFinalizer challengeFinalizer;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("leaderboard").clear();
+        cacheManager.getCache("challenges").clear();
+    }
+
+    @Test
+    @DisplayName("진행 중 상위 랭킹은 캐시되고 상위권 변경 이벤트에만 무효화된다")
+    void liveTopRankings_EvictedByChangeEvent() {
+        when(challengeMapper.findAllWithTargetQuiz()).thenReturn(List.of(challenge(1L, null)));
+        when(liveLeaderboard.range(eq(1L), anyInt(), anyInt())).thenReturn(List.of());
+
+        challengeService.getTopRankings(1L);
+        challengeService.getTopRankings(1L);
+        verify(liveLeaderboard, times(1)).range(eq(1L), anyInt(), anyInt());
+
+        eventPublisher.publishEvent(new LeaderboardChangedEvent(1L, 50)); // 상위권 밖 변경
+        challengeService.getTopRankings(1L);
+        verify(liveLeaderboard, times(1)).range(eq(1L), anyInt(), anyInt());
+
+        eventPublisher.publishEvent(new LeaderboardChangedEvent(1L, 3));
+        challengeService.getTopRankings(1L);
+        verify(liveLeaderboard, times(2)).range(eq(1L), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("확정된 랭킹은 진행 중 랭킹보다 오래 캐시된다")
+    void finalizedTopRankings_KeptLonger() {
+        when(challengeMapper.findAllWithTargetQuiz())
+                .thenReturn(List.of(challenge(1L, null), challenge(2L, LocalDateTime.now())));
+        when(liveLeaderboard.range(eq(1L), anyInt(), anyInt())).thenReturn(List.of());
+        when(challengeRankingMapper.challengeTotalRanking(eq(2L), anyInt())).thenReturn(new ArrayList<>());
+
+        challengeService.getTopRankings(1L);
+        challengeService.getTopRankings(2L);
+
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("leaderboard");
+        assertThat(cache.get(2L, LeaderboardSnapshot.class).isFinalized()).isTrue();
+
+        Policy.VarExpiration<Object, Object> expiry = cache.getNativeCache().policy().expireVariably().orElseThrow();
+        long liveTtl = expiry.getExpiresAfter(1L, TimeUnit.SECONDS).orElseThrow();
+        long finalizedTtl = expiry.getExpiresAfter(2L, TimeUnit.SECONDS).orElseThrow();
+        assertThat(liveTtl).isLessThanOrEqualTo(Duration.ofSeconds(5).toSeconds());
+        assertThat(finalizedTtl).isGreaterThan(Duration.ofHours(1).toSeconds());
+    }
+
+    private Challenge challenge(Long id, LocalDateTime finalizedAt) {
+        Challenge challenge = new Challenge();
+        challenge.setId(id);
+        challenge.setChallengeType("TIME_ATTACK");
+        challenge.setEndAt(finalizedAt);
+        challenge.setFinalizedAt(finalizedAt);
+        return challenge;
+    }
+}
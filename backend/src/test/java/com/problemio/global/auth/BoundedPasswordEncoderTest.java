@@ -0,0 +1,141 @@
+package com.problemio.global.auth;
+
+import com.problemio.global.dto.PasswordHashingStatsResponse;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱 결과는 위임한 인코더와 같고 연산별 통계가 기록된다")
+    void encodeAndMatches_RecordStats() {
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(), 1, 1, Duration.ofSeconds(1));
+
+        assertThat(encoder.encode("pw")).isEqualTo("hashed:pw");
+        assertThat(encoder.matches("pw", "hashed:pw")).isTrue();
+
+        assertThat(encoder.snapshot())
+                .extracting(PasswordHashingStatsResponse::getOperation, PasswordHashingStatsResponse::getCount)
+                .containsExactly(
+                        tuple("encode", 1L),
+                        tuple("matches", 1L));
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 TOO_MANY_REQUESTS 로 거절한다")
+    void saturated_RejectsWithTooManyRequests() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntilQueued();
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+        assertThat(encoder.snapshot().get(0).getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열에서 timeout 안에 시작하지 못하면 해싱하지 않고 TOO_MANY_REQUESTS 로 거절한다")
+    void queuedTooLong_RejectsWithoutHashing() throws Exception {
+        BlockingEncoder delegate = new BlockingEncoder();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> encoder.encode("b"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(encoder.snapshot().get(0).getQueued()).isZero();
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(delegate.encoded).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("이미 시작한 해싱은 timeout 이 지나도 취소하지 않고 결과를 돌려준다")
+    void runningHash_IsNotCancelled() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofMillis(50));
+
+        CompletableFuture<Boolean> matching = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hashed:a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(matching).isNotDone();
+
+        release.countDown();
+        assertThat(matching.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(encoder.snapshot().get(1).getRejectedCount()).isZero();
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 100 && encoder.snapshot().get(0).getQueued() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(encoder.snapshot().get(0).getQueued()).isEqualTo(1);
+    }
+
+    private static class PrefixEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingEncoder extends PrefixEncoder {
+        private final List<String> encoded = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            encoded.add(rawPassword.toString());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
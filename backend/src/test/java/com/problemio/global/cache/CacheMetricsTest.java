@@ -0,0 +1,60 @@
+package com.problemio.global.cache;
+
+import com.problemio.global.config.CacheConfig;
+import com.problemio.global.dto.CacheStatsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, CacheMetrics.class})
+@TestPropertySource(properties = {
+        "cache.specs.ranking.maximum-size=2",
+        "cache.specs.ranking.expire-after-write=1m"
+})
+class CacheMetricsTest {
+
+    @Autowired private CacheManager cacheManager;
+    @Autowired private CacheMetrics cacheMetrics;
+
+    @Test
+    @DisplayName("cache.specs 설정이 기본 크기/만료를 덮어쓴다")
+    void specOverridesDefaults() {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> ranking = nativeCache("ranking");
+
+        assertThat(ranking.policy().eviction().orElseThrow().getMaximum()).isEqualTo(2);
+        assertThat(ranking.policy().expireAfterWrite().orElseThrow().getExpiresAfter()).isEqualTo(Duration.ofMinutes(1));
+        // 설정하지 않은 캐시는 기본값 유지
+        assertThat(nativeCache("userProfile").policy().eviction().orElseThrow().getMaximum()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("모든 캐시의 적중/미스 통계를 이름별로 노출한다")
+    void snapshotReportsEveryCache() {
+        Cache quizCount = cacheManager.getCache("quizCount");
+        quizCount.get("missing");
+        quizCount.put("k", 1);
+        quizCount.get("k");
+
+        assertThat(cacheMetrics.snapshot())
+                .extracting(CacheStatsResponse::getName)
+                .containsAll(cacheManager.getCacheNames());
+        CacheStatsResponse stats = cacheMetrics.snapshot().stream()
+                .filter(s -> s.getName().equals("quizCount"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache(String name) {
+        return (com.github.benmanes.caffeine.cache.Cache<?, ?>) cacheManager.getCache(name).getNativeCache();
+    }
+}
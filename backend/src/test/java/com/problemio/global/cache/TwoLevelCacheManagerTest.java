@@ -0,0 +1,117 @@
+package com.problemio.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheManagerTest {
+
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        InProcessCacheTier tier = new InProcessCacheTier(Set.of("userProfile"));
+        nodeA = node(tier);
+        nodeB = node(tier);
+    }
+
+    @Test
+    @DisplayName("공유 캐시는 다른 인스턴스가 적재한 값을 L2 에서 읽는다")
+    void sharedCacheReadsThroughRemoteTier() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = nodeA.getCache("userProfile").get(1L, () -> "user-" + loads.incrementAndGet());
+        String second = nodeB.getCache("userProfile").get(1L, () -> "user-" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("user-1");
+        assertThat(second).isEqualTo("user-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 evict 하면 다른 인스턴스의 L1 도 비워진다")
+    void evictPropagatesToOtherNodes() {
+        nodeA.getCache("userDetails").put("a@test.com", "old");
+        nodeB.getCache("userDetails").put("a@test.com", "old");
+
+        nodeA.getCache("userDetails").evict("a@test.com");
+
+        assertThat(nodeB.getCache("userDetails").get("a@test.com")).isNull();
+    }
+
+    @Test
+    @DisplayName("로컬 전용 캐시의 put 은 다른 인스턴스에 전파되지 않는다")
+    void localPutIsNotBroadcast() {
+        nodeB.getCache("userDetails").put("a@test.com", "b-copy");
+
+        nodeA.getCache("userDetails").put("a@test.com", "a-copy");
+
+        assertThat(nodeB.getCache("userDetails").get("a@test.com").get()).isEqualTo("b-copy");
+    }
+
+    @Test
+    @DisplayName("공유 캐시 갱신은 L2 에 반영되고 다른 인스턴스의 오래된 L1 을 무효화한다")
+    void sharedPutReplacesStaleCopies() {
+        Cache a = nodeA.getCache("userProfile");
+        Cache b = nodeB.getCache("userProfile");
+        a.put(1L, "v1");
+        assertThat(b.get(1L, String.class)).isEqualTo("v1");
+
+        a.put(1L, "v2");
+
+        assertThat(b.get(1L, String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("공유 계층(Redis) 장애 시에도 조회/변경은 L1 만으로 계속 동작한다")
+    @SuppressWarnings("unchecked")
+    void remoteFailureDegradesToLocal() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        RedisConnectionFailureException down = new RedisConnectionFailureException("down");
+        when(redisTemplate.opsForValue()).thenThrow(down);
+        when(redisTemplate.delete(anyString())).thenThrow(down);
+        when(redisTemplate.scan(any())).thenThrow(down);
+        when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(down);
+        TwoLevelCacheManager node = node(new RedisCacheTier(redisTemplate, mock(RedisMessageListenerContainer.class),
+                "cache-invalidation", Set.of("userProfile"), Duration.ofMinutes(10)));
+        Cache shared = node.getCache("userProfile");
+        Cache local = node.getCache("userDetails");
+
+        assertThat(shared.get(1L, () -> "user-1")).isEqualTo("user-1");
+        assertThatCode(() -> {
+            shared.put(1L, "user-2");
+            shared.evict(1L);
+            shared.clear();
+            local.evict("a@test.com");
+        }).doesNotThrowAnyException();
+        assertThat(shared.get(1L)).isNull();
+    }
+
+    private static TwoLevelCacheManager node(RemoteCacheTier tier) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(List.of(
+                new CaffeineCache("userDetails", Caffeine.newBuilder().build()),
+                new CaffeineCache("userProfile", Caffeine.newBuilder().build())
+        ), tier);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+}
@@ -0,0 +1,99 @@
+package com.problemio.global.jwt;
+
+import com.problemio.global.auth.CustomUserDetails;
+import com.problemio.global.auth.TokenVersionStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private TokenVersionStore tokenVersionStore;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("stateless 모드에서는 클레임으로 principal 을 만들고 UserDetails 를 조회하지 않는다")
+    void stateless_BuildsPrincipalFromClaims() throws Exception {
+        given(jwtTokenProvider.verify("token")).willReturn(Optional.of(claims(2)));
+        given(tokenVersionStore.current(7L)).willReturn(2);
+
+        filter(true).doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getUser().getId()).isEqualTo(7L);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        verifyNoInteractions(userDetailsService, userCache);
+    }
+
+    @Test
+    @DisplayName("토큰 버전이 현재 버전과 다르면 인증하지 않는다")
+    void stateless_StaleVersion_NotAuthenticated() throws Exception {
+        given(jwtTokenProvider.verify("token")).willReturn(Optional.of(claims(1)));
+        given(tokenVersionStore.current(7L)).willReturn(2);
+
+        filter(true).doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("stateless 모드가 꺼져 있으면 기존처럼 UserDetails 를 조회한다")
+    void disabled_LoadsUserDetails() throws Exception {
+        given(jwtTokenProvider.verify("token")).willReturn(Optional.of(claims(2)));
+        given(userDetailsService.loadUserByUsername("admin@problemio.com"))
+                .willReturn(CustomUserDetails.ofClaims(7L, "admin@problemio.com", "ROLE_ADMIN"));
+
+        filter(false).doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verifyNoInteractions(tokenVersionStore);
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, userCache, tokenVersionStore, stateless);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+
+    private static TokenClaims claims(int version) {
+        return new TokenClaims("admin@problemio.com", Long.MAX_VALUE, 7L, "ROLE_ADMIN", version);
+    }
+}
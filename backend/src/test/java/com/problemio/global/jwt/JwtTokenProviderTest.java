@@ -0,0 +1,92 @@
+package com.problemio.global.jwt;
+
+import com.problemio.global.cache.CacheSpecProperties;
+import com.problemio.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("problemio-test-secret-key-0123456789abcdef".getBytes());
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(new CacheSpecProperties());
+        provider = new JwtTokenProvider(SECRET, 60_000L, verifiedTokenCache);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번 검증 후 캐시에서 같은 클레임을 반환한다")
+    void verify_ValidToken_CachesClaims() {
+        String token = provider.createAccessToken(user());
+
+        Optional<TokenClaims> first = provider.verify(token);
+        Optional<TokenClaims> second = provider.verify(token);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().subject()).isEqualTo("user@problemio.com");
+        assertThat(second).contains(first.get());
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Access Token 에 유저 ID, 권한, 토큰 버전이 담긴다")
+    void verify_ValidToken_ReadsUserClaims() {
+        TokenClaims claims = provider.verify(provider.createAccessToken(user())).orElseThrow();
+
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.role()).isEqualTo("ROLE_USER");
+        assertThat(claims.tokenVersion()).isEqualTo(3);
+        assertThat(claims.isStateless()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 검증에 실패하고 캐시에 남지 않는다")
+    void verify_TamperedToken_ReturnsEmpty() {
+        JwtTokenProvider other = new JwtTokenProvider(
+                Base64.getEncoder().encodeToString("another-secret-key-for-signing-0123456789".getBytes()),
+                60_000L,
+                new VerifiedTokenCache(new CacheSpecProperties()));
+        String forged = other.createAccessToken(user());
+
+        assertThat(provider.verify(forged)).isEmpty();
+        assertThat(verifiedTokenCache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 검증에 실패한다")
+    void verify_ExpiredToken_ReturnsEmpty() {
+        JwtTokenProvider shortLived = new JwtTokenProvider(SECRET, -1_000L, verifiedTokenCache);
+        String expired = shortLived.createAccessToken(user());
+
+        assertThat(provider.verify(expired)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시에 남아 있어도 토큰 만료 시각이 지나면 반환하지 않는다")
+    void cache_ExpiredClaims_NotReturned() {
+        verifiedTokenCache.put("token", new TokenClaims("user@problemio.com", 1_000L));
+
+        assertThat(verifiedTokenCache.get("token", 999L)).isNotNull();
+        assertThat(verifiedTokenCache.get("token", 1_000L)).isNull();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("user@problemio.com");
+        user.setRole("ROLE_USER");
+        user.setTokenVersion(3);
+        return user;
+    }
+}
@@ -0,0 +1,131 @@
+package com.problemio.quiz.catalog;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.problemio.global.cache.InProcessCacheTier;
+import com.problemio.global.cache.TwoLevelCacheManager;
+import com.problemio.global.config.CacheConfig;
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+import com.problemio.quiz.mapper.QuestionAnswerMapper;
+import com.problemio.quiz.mapper.QuestionMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, QuestionCatalog.class})
+class QuestionCatalogTest {
+
+    @Autowired private QuestionCatalog questionCatalog;
+    @Autowired private CacheManager cacheManager;
+
+    @MockitoBean private QuestionMapper questionMapper;
+    @MockitoBean private QuestionAnswerMapper questionAnswerMapper;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("quizQuestions").clear();
+        when(questionMapper.findByQuizId(1L)).thenReturn(List.of(question(10L, 1)));
+        when(questionAnswerMapper.findByQuizId(1L)).thenReturn(List.of(answer(10L, "사과", 2), answer(10L, "apple", 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 퀴즈 단위로 한 번만 적재하고 이후에는 적중한다")
+    void get_BulkLoadsOncePerQuiz() {
+        QuizQuestions first = questionCatalog.get(1L);
+        QuizQuestions second = questionCatalog.get(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.answersOf(10L)).extracting(QuestionAnswer::getAnswerText).containsExactly("apple", "사과");
+        verify(questionMapper, times(1)).findByQuizId(1L);
+        verify(questionAnswerMapper, times(1)).findByQuizId(1L);
+    }
+
+    @Test
+    @DisplayName("수정 반영은 커밋 후 다시 적재해 다음 조회가 DB 를 거치지 않는다")
+    void refresh_ReloadsAfterCommit() {
+        QuizQuestions stale = questionCatalog.get(1L);
+        clearInvocations(questionMapper, questionAnswerMapper);
+
+        TransactionSynchronizationManager.initSynchronization();
+        questionCatalog.refresh(1L);
+        verifyNoInteractions(questionMapper, questionAnswerMapper);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        verify(questionMapper, times(1)).findByQuizId(1L);
+
+        QuizQuestions refreshed = questionCatalog.get(1L);
+        assertThat(refreshed).isNotSameAs(stale);
+        verify(questionMapper, times(1)).findByQuizId(1L);
+    }
+
+    @Test
+    @DisplayName("수정 커밋 후 다른 인스턴스가 커밋 전에 다시 적재한 이전 문제도 무효화된다")
+    void refresh_InvalidatesOtherNodesAfterCommit() {
+        InProcessCacheTier tier = new InProcessCacheTier(Set.of());
+        QuestionCatalog nodeA = new QuestionCatalog(node(tier), questionMapper, questionAnswerMapper);
+        QuestionCatalog nodeB = new QuestionCatalog(node(tier), questionMapper, questionAnswerMapper);
+        nodeB.get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        nodeA.refresh(1L);
+        // 커밋 전: B 는 아직 이전 데이터를 다시 적재
+        QuizQuestions stale = nodeB.get(1L);
+        when(questionMapper.findByQuizId(1L)).thenReturn(List.of(question(10L, 1), question(11L, 2)));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(stale.getQuestions()).hasSize(1);
+        assertThat(nodeA.get(1L).getQuestions()).hasSize(2);
+        assertThat(nodeB.get(1L).getQuestions()).hasSize(2);
+    }
+
+    private static TwoLevelCacheManager node(InProcessCacheTier tier) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(
+                List.of(new CaffeineCache("quizQuestions", Caffeine.newBuilder().build())), tier);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private Question question(Long id, int order) {
+        Question question = new Question();
+        question.setId(id);
+        question.setQuizId(1L);
+        question.setQuestionOrder(order);
+        return question;
+    }
+
+    private QuestionAnswer answer(Long questionId, String text, int sortOrder) {
+        QuestionAnswer answer = new QuestionAnswer();
+        answer.setQuestionId(questionId);
+        answer.setAnswerText(text);
+        answer.setSortOrder(sortOrder);
+        return answer;
+    }
+}
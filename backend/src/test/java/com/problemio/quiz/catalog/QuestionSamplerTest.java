@@ -0,0 +1,41 @@
+package com.problemio.quiz.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionSamplerTest {
+
+    private static final List<Integer> ITEMS = IntStream.rangeClosed(1, 100).boxed().toList();
+
+    @Test
+    @DisplayName("요청 개수만큼 중복 없이 뽑는다")
+    void picksDistinctItems() {
+        List<Integer> picked = QuestionSampler.sample(ITEMS, 10);
+
+        assertThat(picked).hasSize(10).doesNotHaveDuplicates();
+        assertThat(ITEMS).containsAll(picked);
+    }
+
+    @Test
+    @DisplayName("같은 seed 는 같은 순서를 만든다")
+    void sameSeedSameOrder() {
+        assertThat(QuestionSampler.sample(ITEMS, 20, 42L))
+                .containsExactlyElementsOf(QuestionSampler.sample(ITEMS, 20, 42L));
+        assertThat(QuestionSampler.sample(ITEMS, 20, 42L))
+                .isNotEqualTo(QuestionSampler.sample(ITEMS, 20, 43L));
+    }
+
+    @Test
+    @DisplayName("문제 수보다 많이 요청하면 전체를 섞어 돌려준다")
+    void limitLargerThanItems() {
+        List<Integer> picked = QuestionSampler.sample(List.of(1, 2, 3), 50, 7L);
+
+        assertThat(picked).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(QuestionSampler.sample(List.of(), 10)).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package com.problemio.quiz.counter;
+
+import com.problemio.quiz.mapper.QuizMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlayCountAggregatorTest {
+
+    @Mock
+    private QuizMapper quizMapper;
+
+    private PlayCountAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new PlayCountAggregator(quizMapper);
+    }
+
+    @Test
+    @DisplayName("조회수 증분은 flush 시 한 번에 반영되고 초기화된다")
+    void flush_AppliesAccumulatedDeltas() {
+        aggregator.increment(1L);
+        aggregator.increment(1L);
+        long pending = aggregator.increment(1L);
+        aggregator.increment(2L);
+
+        assertThat(pending).isEqualTo(3L);
+
+        aggregator.flush();
+
+        verify(quizMapper).addPlayCounts(Map.of(1L, 3L, 2L, 1L));
+        assertThat(aggregator.pendingDelta(1L)).isZero();
+        assertThat(aggregator.pendingDelta(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 증분이 없으면 DB를 호출하지 않는다")
+    void flush_NoDeltas_SkipsUpdate() {
+        aggregator.flush();
+
+        verify(quizMapper, never()).addPlayCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 증분을 복원해 다음 주기에 재시도한다")
+    void flush_Failure_RestoresDeltas() {
+        aggregator.increment(1L);
+        aggregator.increment(1L);
+        doThrow(new RuntimeException("db down")).when(quizMapper).addPlayCounts(anyMap());
+
+        aggregator.flush();
+
+        assertThat(aggregator.pendingDelta(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 조회가 없던 퀴즈는 집계 대상에서 빠지고, 다시 조회되면 새로 집계한다")
+    void flush_DropsIdleQuizzes() {
+        aggregator.increment(1L);
+        aggregator.flush();
+        aggregator.flush();
+
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(aggregator, "pending")).isEmpty();
+
+        aggregator.increment(1L);
+        aggregator.flush();
+
+        verify(quizMapper, times(2)).addPlayCounts(Map.of(1L, 1L));
+    }
+}
@@ -0,0 +1,24 @@
+package com.problemio.quiz.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FulltextQuizSearchEngineTest {
+
+    @Test
+    @DisplayName("검색어의 각 단어는 필수 구문 검색으로 변환된다")
+    void toBooleanQuery_RequiresEveryTerm() {
+        assertThat(FulltextQuizSearchEngine.toBooleanQuery("  자바  \"퀴즈\" ", 2))
+                .isEqualTo("+\"자바\" +\"퀴즈\"");
+    }
+
+    @Test
+    @DisplayName("ngram 크기보다 짧은 단어가 있거나 검색어가 비어 있으면 LIKE 검색으로 대체한다")
+    void toBooleanQuery_FallsBackForShortOrBlankKeyword() {
+        assertThat(FulltextQuizSearchEngine.toBooleanQuery("자 바둑", 2)).isNull();
+        assertThat(FulltextQuizSearchEngine.toBooleanQuery("   ", 2)).isNull();
+        assertThat(FulltextQuizSearchEngine.toBooleanQuery(null, 2)).isNull();
+    }
+}
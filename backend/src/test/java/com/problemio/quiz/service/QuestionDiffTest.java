@@ -0,0 +1,85 @@
+package com.problemio.quiz.service;
+
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+import com.problemio.quiz.dto.AnswerCreateRequest;
+import com.problemio.quiz.dto.QuestionCreateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionDiffTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("변경 없는 질문은 id 를 유지하고 아무 작업도 만들지 않는다")
+    void compute_NoChanges() {
+        QuestionDiff diff = QuestionDiff.compute(1L,
+                List.of(question(10L, 1, "a.png"), question(11L, 2, "b.png")),
+                Map.of(10L, List.of(answer(10L, "사과", 1)), 11L, List.of(answer(11L, "배", 1))),
+                List.of(request(null, "a.png", "사과"), request(null, "b.png", "배")),
+                NOW);
+
+        assertThat(diff.getInserts()).isEmpty();
+        assertThat(diff.getUpdates()).isEmpty();
+        assertThat(diff.getDeletedIds()).isEmpty();
+        assertThat(diff.getAnswerReplacedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("id/순서로 매칭해 수정, 정답 교체, 삭제, 추가를 구분한다")
+    void compute_MixedChanges() {
+        QuestionDiff diff = QuestionDiff.compute(1L,
+                List.of(question(10L, 1, "a.png"), question(11L, 2, "b.png"), question(12L, 3, "c.png")),
+                Map.of(10L, List.of(answer(10L, "사과", 1)),
+                        11L, List.of(answer(11L, "배", 1)),
+                        12L, List.of(answer(12L, "감", 1))),
+                List.of(
+                        request(null, "a2.png", "사과"),  // 순서 1 매칭, 이미지 변경
+                        request(12L, "c.png", "귤"),     // id 매칭, 순서/정답 변경
+                        request(null, "d.png", "딸기")    // 순서 3 은 이미 매칭됨 -> 신규
+                ),
+                NOW);
+
+        assertThat(diff.getUpdates()).extracting(Question::getId).containsExactly(10L, 12L);
+        assertThat(diff.getAnswerReplacedIds()).containsExactly(12L);
+        assertThat(diff.getReplacementAnswers()).extracting(QuestionAnswer::getAnswerText).containsExactly("귤");
+        assertThat(diff.getDeletedIds()).containsExactly(11L);
+        assertThat(diff.getInserts()).extracting(Question::getImageUrl).containsExactly("d.png");
+        assertThat(diff.hasChanges()).isTrue();
+    }
+
+    private Question question(Long id, int order, String imageUrl) {
+        Question question = new Question();
+        question.setId(id);
+        question.setQuizId(1L);
+        question.setQuestionOrder(order);
+        question.setImageUrl(imageUrl);
+        return question;
+    }
+
+    private QuestionAnswer answer(Long questionId, String text, int sortOrder) {
+        QuestionAnswer answer = new QuestionAnswer();
+        answer.setQuestionId(questionId);
+        answer.setAnswerText(text);
+        answer.setSortOrder(sortOrder);
+        return answer;
+    }
+
+    private QuestionCreateRequest request(Long id, String imageUrl, String answerText) {
+        AnswerCreateRequest answer = new AnswerCreateRequest();
+        answer.setAnswerText(answerText);
+
+        QuestionCreateRequest request = new QuestionCreateRequest();
+        request.setId(id);
+        request.setImageUrl(imageUrl);
+        request.setAnswers(List.of(answer));
+        return request;
+    }
+}
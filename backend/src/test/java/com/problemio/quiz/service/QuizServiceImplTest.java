@@ -0,0 +1,134 @@
+package com.problemio.quiz.service;
+
+import com.problemio.comment.mapper.CommentLikeMapper;
+import com.problemio.comment.mapper.CommentMapper;
+import com.problemio.follow.mapper.FollowMapper;
+import com.problemio.quiz.counter.PlayCountAggregator;
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.Quiz;
+import com.problemio.quiz.domain.QuestionAnswer;
+import com.problemio.quiz.dto.AnswerCreateRequest;
+import com.problemio.quiz.dto.QuestionCreateRequest;
+import com.problemio.quiz.dto.QuizCreateRequest;
+import com.problemio.quiz.mapper.QuestionAnswerMapper;
+import com.problemio.quiz.mapper.QuestionMapper;
+import com.problemio.quiz.mapper.QuizLikeMapper;
+import com.problemio.quiz.mapper.QuizMapper;
+import com.problemio.quiz.search.QuizSearchEngine;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.ranking.rollup.DailyStatsRecorder;
+import com.problemio.submission.engine.AnswerIndex;
+import com.problemio.submission.mapper.SubmissionDetailMapper;
+import com.problemio.submission.mapper.SubmissionMapper;
+import com.problemio.user.loader.UserLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuizServiceImplTest {
+
+    @Mock private QuizMapper quizMapper;
+    @Mock private QuizLikeMapper quizLikeMapper;
+    @Mock private QuestionMapper questionMapper;
+    @Mock private QuestionAnswerMapper questionAnswerMapper;
+    @Mock private UserLoader userLoader;
+    @Mock private FollowMapper followMapper;
+    @Mock private SubmissionMapper submissionMapper;
+    @Mock private SubmissionDetailMapper submissionDetailMapper;
+    @Mock private CommentMapper commentMapper;
+    @Mock private CommentLikeMapper commentLikeMapper;
+    @Mock private CacheManager cacheManager;
+    @Mock private PlayCountAggregator playCountAggregator;
+    @Mock private QuizSearchEngine quizSearchEngine;
+    @Mock private AnswerIndex answerIndex;
+    @Mock private QuestionCatalog questionCatalog;
+    @Mock private DailyStatsRecorder dailyStatsRecorder;
+
+    @InjectMocks
+    private QuizServiceImpl quizService;
+
+    @Test
+    @DisplayName("50문제 x 정답 4개 퀴즈 저장은 퀴즈/질문/정답 INSERT 3회로 끝난다")
+    void createQuiz_BatchesQuestionAndAnswerInserts() {
+        AtomicLong sequence = new AtomicLong(100);
+        doAnswer(invocation -> {
+            List<Question> questions = invocation.getArgument(0);
+            questions.forEach(q -> q.setId(sequence.incrementAndGet()));
+            return null;
+        }).when(questionMapper).insertQuestions(anyList());
+
+        quizService.createQuiz(1L, createRequest(50, 4));
+
+        // DB 왕복 수 = 매퍼 호출 수
+        int roundTrips = mockingDetails(quizMapper).getInvocations().size()
+                + mockingDetails(questionMapper).getInvocations().size()
+                + mockingDetails(questionAnswerMapper).getInvocations().size();
+        assertThat(roundTrips).isEqualTo(3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<QuestionAnswer>> answers = ArgumentCaptor.forClass(List.class);
+        verify(questionAnswerMapper, times(1)).insertAnswers(answers.capture());
+        assertThat(answers.getValue()).hasSize(200);
+        assertThat(answers.getValue().get(0).getQuestionId()).isEqualTo(101L);
+        assertThat(answers.getValue().get(199).getQuestionId()).isEqualTo(150L);
+    }
+
+    @Test
+    @DisplayName("퀴즈 삭제 시 제출 기록을 지우기 전에 랭킹 일간 집계에서 먼저 차감한다")
+    void deleteQuiz_RemovesFromDailyStatsBeforeSubmissions() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        quiz.setUserId(7L);
+        when(quizMapper.findById(1L)).thenReturn(Optional.of(quiz));
+
+        quizService.deleteQuiz(7L, 1L);
+
+        InOrder order = inOrder(dailyStatsRecorder, submissionMapper);
+        order.verify(dailyStatsRecorder).removeQuiz(1L);
+        order.verify(submissionMapper).deleteByQuizId(1L);
+    }
+
+    private QuizCreateRequest createRequest(int questionCount, int answerCount) {
+        List<QuestionCreateRequest> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            List<AnswerCreateRequest> answers = new ArrayList<>();
+            for (int j = 0; j < answerCount; j++) {
+                AnswerCreateRequest answer = new AnswerCreateRequest();
+                answer.setAnswerText("answer-" + i + "-" + j);
+                answers.add(answer);
+            }
+            QuestionCreateRequest question = new QuestionCreateRequest();
+            question.setImageUrl("https://example.com/" + i + ".png");
+            question.setAnswers(answers);
+            questions.add(question);
+        }
+
+        QuizCreateRequest request = new QuizCreateRequest();
+        request.setTitle("title");
+        request.setDescription("description");
+        request.setThumbnailUrl("https://example.com/thumb.png");
+        request.setQuestions(questions);
+        return request;
+    }
+}
@@ -0,0 +1,49 @@
+package com.problemio.ranking.service;
+
+import com.problemio.ranking.dto.RankingResponseDto;
+import com.problemio.ranking.dto.RankingRowDto;
+import com.problemio.ranking.mapper.RankingMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class RankingServiceImplTest {
+
+    @Mock
+    private RankingMapper rankingMapper;
+
+    @Test
+    @DisplayName("top-K 선택은 점수 내림차순 상위 N 명만 반환한다")
+    void selectTop_KeepsHighestScores() {
+        RankingServiceImpl service = new RankingServiceImpl(rankingMapper);
+        List<RankingRowDto> rows = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            rows.add(row((long) i, i, i * 40, i * 50));
+        }
+        rows.add(row(99L, 0, 0, 0)); // 푼 퀴즈가 없으면 제외
+
+        List<RankingResponseDto> top = service.selectTop(rows, 3);
+
+        assertThat(top).extracting(RankingResponseDto::getUserId).containsExactly(50L, 49L, 48L);
+        assertThat(top.get(0).getScore()).isGreaterThan(top.get(1).getScore());
+    }
+
+    private RankingRowDto row(Long userId, int solved, int correct, int questions) {
+        RankingRowDto row = new RankingRowDto();
+        row.setUserId(userId);
+        row.setSolvedQuizCount(solved);
+        row.setTotalCorrect(correct);
+        row.setTotalQuestions(questions);
+        row.setLastSubmittedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return row;
+    }
+}
@@ -0,0 +1,124 @@
+package com.problemio.submission.engine;
+
+import com.problemio.submission.domain.Submission;
+import com.problemio.submission.domain.SubmissionDetail;
+import com.problemio.submission.mapper.SubmissionDetailMapper;
+import com.problemio.submission.mapper.SubmissionMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedSubmissionStoreTest {
+
+    @Mock
+    private SubmissionMapper submissionMapper;
+
+    @Mock
+    private SubmissionDetailMapper submissionDetailMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BufferedSubmissionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new BufferedSubmissionStore(submissionMapper, submissionDetailMapper, transactionTemplate, true, 30, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼 세션의 답안은 종료 시 다건 INSERT 1회 + UPDATE 1회로 저장된다")
+    void complete_FlushesOnceWithMultiRowInsert() {
+        SubmissionState state = store.register(submission());
+        state.recordIfOpen(10L, true);
+        state.recordIfOpen(11L, false);
+        state.recordIfOpen(10L, false); // 같은 문제 재응답은 덮어씀
+
+        verifyNoInteractions(submissionMapper, submissionDetailMapper);
+
+        store.complete(state);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SubmissionDetail>> details = ArgumentCaptor.forClass(List.class);
+        verify(submissionDetailMapper).insertSubmissionDetails(details.capture());
+        assertThat(details.getValue()).extracting(SubmissionDetail::getQuestionId).containsExactly(10L, 11L);
+        verify(submissionMapper).updateProgress(eq(100L), eq(1L), eq(0), anyDouble());
+
+        // 저장 후에는 버퍼에서 제거되고 추가 기록/저장은 거부
+        assertThat(store.get(100L)).isNull();
+        assertThat(state.recordIfOpen(12L, true)).isFalse();
+        store.complete(state);
+        verifyNoMoreInteractions(submissionMapper, submissionDetailMapper);
+    }
+
+    @Test
+    @DisplayName("저장 트랜잭션이 롤백되면 답안을 버퍼에 남기고, 커밋되어야 버퍼에서 제거한다")
+    void complete_KeepsSessionUntilCommit() {
+        SubmissionState state = store.register(submission());
+        state.recordIfOpen(10L, true);
+        state.recordIfOpen(11L, true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        store.complete(state);
+        assertThat(store.get(100L)).isSameAs(state);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // 롤백: 세션과 답안 유지, 이어서 기록 가능
+        assertThat(store.get(100L)).isSameAs(state);
+        assertThat(state.recordIfOpen(12L, false)).isTrue();
+        assertThat(state.getCorrectCount()).isEqualTo(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        store.complete(state);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SubmissionDetail>> details = ArgumentCaptor.forClass(List.class);
+        verify(submissionDetailMapper, times(2)).insertSubmissionDetails(details.capture());
+        assertThat(details.getValue()).extracting(SubmissionDetail::getQuestionId).containsExactly(10L, 11L, 12L);
+        assertThat(store.get(100L)).isNull();
+        assertThat(state.recordIfOpen(13L, true)).isFalse();
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Submission submission() {
+        Submission submission = new Submission();
+        submission.setId(100L);
+        submission.setQuizId(1L);
+        submission.setTotalQuestions(3);
+        submission.setSubmittedAt(LocalDateTime.now());
+        return submission;
+    }
+}
@@ -0,0 +1,121 @@
+package com.problemio.submission.service;
+
+import com.problemio.challenge.live.LiveLeaderboard;
+import com.problemio.quiz.domain.Question;
+import com.problemio.quiz.domain.QuestionAnswer;
+import com.problemio.quiz.catalog.QuestionCatalog;
+import com.problemio.quiz.mapper.QuizMapper;
+import com.problemio.ranking.rollup.DailyStatsRecorder;
+import com.problemio.submission.dto.QuizAnswerResponse;
+import com.problemio.submission.dto.QuizSubmissionRequest;
+import com.problemio.submission.engine.AnswerIndex;
+import com.problemio.submission.engine.BufferedSubmissionStore;
+import com.problemio.submission.engine.CompiledQuiz;
+import com.problemio.submission.engine.SubmissionState;
+import com.problemio.submission.engine.SubmissionStateStore;
+import com.problemio.submission.mapper.SubmissionDetailMapper;
+import com.problemio.submission.mapper.SubmissionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionServiceImplTest {
+
+    @Mock private SubmissionMapper submissionMapper;
+    @Mock private SubmissionDetailMapper submissionDetailMapper;
+    @Mock private QuizMapper quizMapper;
+    @Mock private QuestionCatalog questionCatalog;
+    @Mock private AnswerIndex answerIndex;
+    @Mock private SubmissionStateStore submissionStateStore;
+    @Mock private BufferedSubmissionStore bufferedSubmissionStore;
+    @Mock private DailyStatsRecorder dailyStatsRecorder;
+    @Mock private LiveLeaderboard liveLeaderboard;
+
+    @InjectMocks
+    private SubmissionServiceImpl submissionService;
+
+    private SubmissionState state;
+
+    @BeforeEach
+    void setUp() {
+        Question question = new Question();
+        question.setId(10L);
+        question.setQuizId(1L);
+        QuestionAnswer answer = new QuestionAnswer();
+        answer.setQuestionId(10L);
+        answer.setAnswerText(" Apple ");
+        answer.setSortOrder(1);
+
+        when(answerIndex.get(1L)).thenReturn(CompiledQuiz.compile(1L, List.of(question), List.of(answer)));
+        state = new SubmissionState(100L, 1L, null, LocalDateTime.now(), 5);
+        when(submissionStateStore.get(100L)).thenReturn(state);
+    }
+
+    @Test
+    @DisplayName("진행 중인 제출의 답안 제출은 INSERT 1회 + UPDATE 1회만 실행한다")
+    void submitQuiz_OneInsertAndOneUpdate() {
+        QuizAnswerResponse response = submissionService.submitQuiz(1L, null, request("apple"));
+
+        assertThat(response.isCorrect()).isTrue();
+        assertThat(response.getAnsweredCount()).isEqualTo(1);
+        assertThat(response.getCorrectCount()).isEqualTo(1);
+
+        verify(submissionDetailMapper).insertSubmissionDetail(any());
+        verify(submissionMapper).addProgress(eq(100L), eq(1L), eq(1), anyDouble());
+        int statements = mockingDetails(submissionMapper).getInvocations().size()
+                + mockingDetails(submissionDetailMapper).getInvocations().size()
+                + mockingDetails(quizMapper).getInvocations().size()
+                + mockingDetails(questionCatalog).getInvocations().size();
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 문제를 다시 제출하면 마지막 결과로 정답 수를 다시 계산한다")
+    void submitQuiz_ResubmitOverridesPreviousResult() {
+        submissionService.submitQuiz(1L, null, request("apple"));
+        QuizAnswerResponse response = submissionService.submitQuiz(1L, null, request("banana"));
+
+        assertThat(response.isCorrect()).isFalse();
+        assertThat(response.getAnsweredCount()).isEqualTo(1);
+        assertThat(response.getCorrectCount()).isZero();
+        verify(submissionMapper).addProgress(eq(100L), eq(1L), eq(-1), anyDouble());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 메모리 상태를 버린다")
+    void submitQuiz_Failure_EvictsState() {
+        doThrow(new RuntimeException("db down")).when(submissionDetailMapper).insertSubmissionDetail(any());
+
+        assertThatThrownBy(() -> submissionService.submitQuiz(1L, null, request("apple")))
+                .isInstanceOf(RuntimeException.class);
+
+        verify(submissionStateStore).evictOnRollback(100L);
+        verify(submissionStateStore).evict(100L);
+    }
+
+    private QuizSubmissionRequest request(String answerText) {
+        QuizSubmissionRequest request = new QuizSubmissionRequest();
+        request.setSubmissionId(100L);
+        request.setQuestionId(10L);
+        request.setAnswerText(answerText);
+        return request;
+    }
+}
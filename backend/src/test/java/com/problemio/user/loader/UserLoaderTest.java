@@ -0,0 +1,102 @@
+package com.problemio.user.loader;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.problemio.global.cache.InProcessCacheTier;
+import com.problemio.global.cache.TwoLevelCacheManager;
+import com.problemio.user.dto.UserResponse;
+import com.problemio.user.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserLoaderTest {
+
+    @Mock private UserMapper userMapper;
+
+    private UserLoader userLoader;
+
+    @BeforeEach
+    void setUp() {
+        userLoader = new UserLoader(userMapper, new ConcurrentMapCacheManager(UserLoader.CACHE_NAME));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 id 만 모아 한 번에 조회하고 요청 순서대로 돌려준다")
+    void loadsMissesInOneQuery() {
+        when(userMapper.findByIds(List.of(1L))).thenReturn(List.of(user(1L)));
+        userLoader.load(1L);
+
+        when(userMapper.findByIds(List.of(3L, 2L))).thenReturn(List.of(user(2L), user(3L)));
+        Map<Long, UserResponse> users = userLoader.loadAll(List.of(3L, 1L, 2L, 3L));
+
+        assertThat(users.keySet()).containsExactly(3L, 1L, 2L);
+        verify(userMapper).findByIds(List.of(3L, 2L));
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB 를 조회하지 않는다")
+    void skipsQueryWhenAllCached() {
+        when(userMapper.findByIds(List.of(1L, 2L))).thenReturn(List.of(user(1L), user(2L)));
+        userLoader.loadAll(List.of(1L, 2L));
+
+        Map<Long, UserResponse> users = userLoader.loadAll(List.of(2L, 1L));
+
+        assertThat(users).hasSize(2);
+        verify(userMapper).findByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("탈퇴 등으로 조회되지 않은 id 는 결과에서 빠진다")
+    void dropsMissingUsers() {
+        when(userMapper.findByIds(List.of(9L))).thenReturn(List.of());
+
+        assertThat(userLoader.load(9L)).isNull();
+        assertThat(userLoader.loadAll(List.of())).isEmpty();
+        verify(userMapper, never()).findByIds(List.of());
+    }
+
+    @Test
+    @DisplayName("DB 조회 결과를 공유 캐시에 적재해도 다른 인스턴스에 무효화를 발행하지 않는다")
+    void fillsSharedCacheWithoutBroadcast() {
+        InProcessCacheTier tier = new InProcessCacheTier(Set.of(UserLoader.CACHE_NAME));
+        UserLoader nodeA = new UserLoader(userMapper, node(tier));
+        UserLoader nodeB = new UserLoader(userMapper, node(tier));
+        AtomicInteger invalidations = new AtomicInteger();
+        tier.subscribe(invalidation -> invalidations.incrementAndGet());
+        when(userMapper.findByIds(List.of(1L))).thenReturn(List.of(user(1L)));
+
+        nodeA.load(1L);
+        nodeB.load(1L);
+
+        assertThat(invalidations).hasValue(0);
+        verify(userMapper).findByIds(List.of(1L)); // B 는 L2 에서 읽음
+    }
+
+    private static TwoLevelCacheManager node(InProcessCacheTier tier) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(
+                List.of(new CaffeineCache(UserLoader.CACHE_NAME, Caffeine.newBuilder().build())), tier);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private static UserResponse user(Long id) {
+        return UserResponse.builder().id(id).nickname("user" + id).build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.problemio.user.service;
+
+import com.problemio.global.auth.TokenVersionStore;
+import com.problemio.global.exception.BusinessException;
+import com.problemio.user.domain.User;
+import com.problemio.user.mapper.UserAuthMapper;
+import com.problemio.user.mapper.UserMapper;
+import com.problemio.user.token.RefreshTokenStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock private UserMapper userMapper;
+    @Mock private UserAuthMapper userAuthMapper;
+    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private RefreshTokenStore refreshTokenStore;
+    @Mock private TokenVersionStore tokenVersionStore;
+    @Mock private CacheManager cacheManager;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    @Test
+    @DisplayName("비밀번호 변경은 트랜잭션 밖에서 해싱하고 Access Token 버전과 모든 기기의 Refresh Token 을 폐기한다")
+    void changePassword_RevokesAllSessions() {
+        when(userAuthMapper.findById(7L)).thenReturn(Optional.of(user()));
+        when(passwordEncoder.matches("old-pw", "old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("new-pw")).thenReturn("new-hash");
+        runTransactionInline();
+
+        userService.changePassword(7L, "old-pw", "new-pw");
+
+        // 해싱이 끝난 뒤에 트랜잭션 시작
+        InOrder order = inOrder(passwordEncoder, transactionTemplate, userMapper);
+        order.verify(passwordEncoder).encode("new-pw");
+        order.verify(transactionTemplate).executeWithoutResult(any());
+        order.verify(userMapper).updatePassword(any(), anyString(), any());
+        verify(refreshTokenStore).revokeAll(7L);
+        verify(tokenVersionStore).revoke(7L);
+    }
+
+    @Test
+    @DisplayName("현재 비밀번호가 틀리면 세션을 건드리지 않는다")
+    void changePassword_WrongPassword_KeepsSessions() {
+        when(userAuthMapper.findById(7L)).thenReturn(Optional.of(user()));
+        when(passwordEncoder.matches("wrong-pw", "old-hash")).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.changePassword(7L, "wrong-pw", "new-pw"))
+                .isInstanceOf(BusinessException.class);
+
+        verifyNoInteractions(transactionTemplate, refreshTokenStore, tokenVersionStore);
+    }
+
+    private void runTransactionInline() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("a@test.com");
+        user.setPasswordHash("old-hash");
+        return user;
+    }
+}
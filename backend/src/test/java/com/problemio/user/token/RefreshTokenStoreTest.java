@@ -0,0 +1,124 @@
+package com.problemio.user.token;
+
+import com.problemio.global.exception.BusinessException;
+import com.problemio.global.util.TimeUtils;
+import com.problemio.user.domain.RefreshToken;
+import com.problemio.user.domain.User;
+import com.problemio.user.mapper.RefreshTokenMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenMapper refreshTokenMapper;
+
+    @InjectMocks
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(store, "validityDays", 14L);
+        ReflectionTestUtils.setField(store, "reuseGraceSeconds", 10L);
+        ReflectionTestUtils.setField(store, "cleanupBatchSize", 2);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 원문 대신 SHA-256 해시로 저장된다")
+    void issue_StoresHashOnly() {
+        String raw = store.issue(1L);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenMapper).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash())
+                .hasSize(64)
+                .isEqualTo(RefreshTokenStore.hash(raw))
+                .isNotEqualTo(raw);
+        assertThat(captor.getValue().getFamilyId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("회전 시 같은 family 로 새 토큰을 발급하고 직전 토큰만 남긴다")
+    void rotate_IssuesNextTokenInSameFamily() {
+        given(refreshTokenMapper.findByTokenHash(RefreshTokenStore.hash("old")))
+                .willReturn(Optional.of(token(null)));
+        given(refreshTokenMapper.markRotated(eq(10L), any())).willReturn(1);
+
+        RefreshTokenStore.Rotation rotation = store.rotate("old");
+
+        assertThat(rotation.user().getId()).isEqualTo(1L);
+        assertThat(rotation.refreshToken()).isNotEqualTo("old");
+        verify(refreshTokenMapper).deleteRotatedByFamilyId("family", 10L);
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenMapper).save(captor.capture());
+        assertThat(captor.getValue().getFamilyId()).isEqualTo("family");
+    }
+
+    @Test
+    @DisplayName("이미 회전된 토큰이 다시 쓰이면 family 전체를 폐기한다")
+    void rotate_Reuse_RevokesFamily() {
+        given(refreshTokenMapper.findByTokenHash(anyString()))
+                .willReturn(Optional.of(token(TimeUtils.now().minusMinutes(5))));
+
+        assertThatThrownBy(() -> store.rotate("old")).isInstanceOf(BusinessException.class);
+
+        verify(refreshTokenMapper).deleteByFamilyId("family");
+        verify(refreshTokenMapper, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("회전 직후 동시 요청은 거부만 하고 family 는 유지한다")
+    void rotate_WithinGrace_KeepsFamily() {
+        given(refreshTokenMapper.findByTokenHash(anyString()))
+                .willReturn(Optional.of(token(TimeUtils.now().minusSeconds(1))));
+
+        assertThatThrownBy(() -> store.rotate("old")).isInstanceOf(BusinessException.class);
+
+        verify(refreshTokenMapper, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    @DisplayName("만료 토큰은 batch 크기만큼 반복 삭제한다")
+    void deleteExpired_RepeatsUntilPartialBatch() {
+        given(refreshTokenMapper.deleteExpired(any(), eq(2))).willReturn(2, 2, 1);
+
+        store.deleteExpired();
+
+        verify(refreshTokenMapper, times(3)).deleteExpired(any(), eq(2));
+    }
+
+    private static RefreshToken token(LocalDateTime rotatedAt) {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user@problemio.com");
+        return RefreshToken.builder()
+                .id(10L)
+                .userId(1L)
+                .familyId("family")
+                .expiresAt(TimeUtils.now().plusDays(1))
+                .rotatedAt(rotatedAt)
+                .user(user)
+                .build();
+    }
+}